@@ -0,0 +1,293 @@
+package com.kmo.kome.cache;
+
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import com.kmo.kome.dto.response.ActivityHeatmapResponse;
+import com.kmo.kome.entity.Memo;
+import com.kmo.kome.entity.Post;
+import com.kmo.kome.event.MemoChangedEvent;
+import com.kmo.kome.event.PostChangedEvent;
+import com.kmo.kome.mapper.MemoMapper;
+import com.kmo.kome.mapper.PostMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 活动热力图（每日发布的 Memo 数与文章数）。
+ * <p>
+ * 以 {@code int[]} 按"距起始日期的天数"保存最近 {@code kome.memo.heatmap-years} 年每天的已发布数量，
+ * 启动时从 memo、post 表加载一次（只查询 create_time），之后根据 Memo、文章变更事件增量调整，读取时不访问数据库。
+ * 日期按 {@code kome.time-zone} 计算。
+ * <p>
+ * 加载期间收到变更事件时（通过变更代数判断）丢弃查询结果重新加载，避免查询与替换之间的变更丢失。
+ * 每天按 {@code kome.memo.heatmap-reconcile-cron} 重新从数据库加载，纠正事件遗漏等原因造成的偏差，同时使窗口随日期前移；
+ * 数组在当天之后预留一年，对账长期未执行时日期超出数组范围也会触发重新加载。
+ */
+@Slf4j
+@Component
+public class ActivityHeatmap {
+
+    private static final int PUBLISHED = 1;
+    // 数组在当天之后预留的天数
+    private static final int SPARE_DAYS = 366;
+    // 加载期间持续有变更时的最大尝试次数，超出后接受最后一次结果，由下次对账纠正
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    private final MemoMapper memoMapper;
+    private final PostMapper postMapper;
+    private final ZoneId zoneId;
+    private final int maxYears;
+
+    /** 变更代数，每次收到变更事件时递增 */
+    private final AtomicLong generation = new AtomicLong();
+
+    /** 数组下标 0 对应的日期，仅在持有对象锁时访问 */
+    private LocalDate origin;
+    private int[] memoCounts;
+    private int[] postCounts;
+
+    public ActivityHeatmap(MemoMapper memoMapper,
+                           PostMapper postMapper,
+                           @Value("${kome.time-zone}") String timeZone,
+                           @Value("${kome.memo.heatmap-years:3}") int maxYears) {
+        this.memoMapper = memoMapper;
+        this.postMapper = postMapper;
+        this.zoneId = ZoneId.of(timeZone);
+        this.maxYears = Math.max(maxYears, 1);
+    }
+
+    /**
+     * 从数据库加载起始日期之后的全部已发布 Memo 与文章。
+     */
+    @PostConstruct
+    public void load() {
+        Counts counts = reload().loaded();
+        log.info("Activity heatmap loaded from {}, {} memos, {} posts", counts.origin(),
+                Arrays.stream(counts.memos()).sum(), Arrays.stream(counts.posts()).sum());
+    }
+
+    /**
+     * 每天定时与数据库对账，存在偏差时以数据库为准并记录日志。
+     */
+    @Scheduled(cron = "${kome.memo.heatmap-reconcile-cron:0 40 3 * * *}", zone = "${kome.time-zone}")
+    public void reconcile() {
+        Reload reload;
+        try {
+            reload = reload();
+        } catch (Exception e) {
+            log.warn("Failed to reconcile activity heatmap: {}", e.getMessage());
+            return;
+        }
+        Counts previous = reload.previous();
+        Counts loaded = reload.loaded();
+        int memoDrift = drift(previous.origin(), previous.memos(), loaded.origin(), loaded.memos());
+        int postDrift = drift(previous.origin(), previous.posts(), loaded.origin(), loaded.posts());
+        if (memoDrift > 0 || postDrift > 0) {
+            log.warn("Activity heatmap drifted from database, corrected {} memo days and {} post days",
+                    memoDrift, postDrift);
+        }
+    }
+
+    /**
+     * 获取最近若干年（截至今天）的每日数量。
+     *
+     * @param years 年数，超出 {@code kome.memo.heatmap-years} 时按该上限计算
+     * @return 游程编码后的每日 Memo 数与文章数
+     */
+    public ActivityHeatmapResponse get(int years) {
+        LocalDate today = LocalDate.now(zoneId);
+        LocalDate start = today.minusYears(Math.clamp(years, 1, maxYears)).plusDays(1);
+        if (!covers(today)) {
+            load();
+        }
+        synchronized (this) {
+            int from = (int) ChronoUnit.DAYS.between(origin, start);
+            int to = (int) ChronoUnit.DAYS.between(origin, today) + 1;
+            return ActivityHeatmapResponse.builder()
+                    .startDate(start)
+                    .endDate(today)
+                    .memos(encode(memoCounts, from, to))
+                    .posts(encode(postCounts, from, to))
+                    .build();
+        }
+    }
+
+    /**
+     * Memo 变更后调整对应日期的数量。
+     *
+     * @param event Memo 变更事件
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onMemoChanged(MemoChangedEvent event) {
+        generation.incrementAndGet();
+        if (memoCounts == null) {
+            return;
+        }
+        Memo before = event.before();
+        Memo after = event.after();
+        if (before != null && Objects.equals(before.getStatus(), PUBLISHED)) {
+            add(memoCounts, origin, before.getCreateTime(), -1);
+        }
+        if (after != null && Objects.equals(after.getStatus(), PUBLISHED)) {
+            add(memoCounts, origin, after.getCreateTime(), 1);
+        }
+    }
+
+    /**
+     * 文章变更后调整对应日期的数量。
+     *
+     * @param event 文章变更事件
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPostChanged(PostChangedEvent event) {
+        generation.incrementAndGet();
+        if (postCounts == null) {
+            return;
+        }
+        Post before = event.before();
+        Post after = event.after();
+        if (before != null && Objects.equals(before.getStatus(), PUBLISHED)) {
+            add(postCounts, origin, before.getCreateTime(), -1);
+        }
+        if (after != null && Objects.equals(after.getStatus(), PUBLISHED)) {
+            add(postCounts, origin, after.getCreateTime(), 1);
+        }
+    }
+
+    private synchronized boolean covers(LocalDate day) {
+        return ChronoUnit.DAYS.between(origin, day) < memoCounts.length;
+    }
+
+    /**
+     * 查询数据库并替换数组。查询期间收到变更事件时重新查询，最多尝试 {@link #MAX_LOAD_ATTEMPTS} 次。
+     *
+     * @return 替换前与替换后的数量
+     */
+    private Reload reload() {
+        for (int attempt = 1; ; attempt++) {
+            long loadingGeneration = generation.get();
+            Counts loaded = query();
+            synchronized (this) {
+                boolean changed = generation.get() != loadingGeneration;
+                if (!changed || attempt >= MAX_LOAD_ATTEMPTS) {
+                    if (changed) {
+                        log.warn("Activity heatmap kept changing during {} load attempts, "
+                                + "counts may be off until the next reconcile", attempt);
+                    }
+                    Counts previous = new Counts(origin, memoCounts, postCounts);
+                    origin = loaded.origin();
+                    memoCounts = loaded.memos();
+                    postCounts = loaded.posts();
+                    return new Reload(previous, loaded);
+                }
+            }
+        }
+    }
+
+    /**
+     * 查询起始日期之后的全部已发布 Memo 与文章的创建时间，按日期计数。
+     */
+    private Counts query() {
+        LocalDate today = LocalDate.now(zoneId);
+        LocalDate start = today.minusYears(maxYears);
+        int length = (int) ChronoUnit.DAYS.between(start, today) + 1 + SPARE_DAYS;
+        int[] memos = new int[length];
+        int[] posts = new int[length];
+        LocalDateTime from = start.atStartOfDay();
+
+        memoMapper.selectList(Wrappers.<Memo>lambdaQuery()
+                        .select(Memo::getCreateTime)
+                        .eq(Memo::getStatus, PUBLISHED)
+                        .ge(Memo::getCreateTime, from))
+                .forEach(memo -> add(memos, start, memo.getCreateTime(), 1));
+        postMapper.selectList(Wrappers.<Post>lambdaQuery()
+                        .select(Post::getCreateTime)
+                        .eq(Post::getStatus, PUBLISHED)
+                        .ge(Post::getCreateTime, from))
+                .forEach(post -> add(posts, start, post.getCreateTime(), 1));
+        return new Counts(start, memos, posts);
+    }
+
+    /**
+     * 统计两份数组在重叠日期范围内数量不一致的天数。
+     */
+    private static int drift(LocalDate previousOrigin, int[] previous, LocalDate origin, int[] counts) {
+        if (previous == null) {
+            return 0;
+        }
+        int shift = (int) ChronoUnit.DAYS.between(previousOrigin, origin);
+        int days = 0;
+        for (int i = Math.max(-shift, 0); i < counts.length && i + shift < previous.length; i++) {
+            if (counts[i] != previous[i + shift]) {
+                days++;
+            }
+        }
+        return days;
+    }
+
+    /**
+     * 调整指定时间所在日期的数量，超出数组范围的时间忽略。
+     * 数量变为负数说明内存数据已与数据库不一致，记录日志并暂按 0 处理，由下次对账纠正。
+     */
+    private static void add(int[] counts, LocalDate origin, LocalDateTime time, int delta) {
+        if (time == null) {
+            return;
+        }
+        long index = ChronoUnit.DAYS.between(origin, time.toLocalDate());
+        if (index >= 0 && index < counts.length) {
+            int count = counts[(int) index] + delta;
+            if (count < 0) {
+                log.warn("Activity heatmap count for {} dropped below zero, waiting for reconcile", time.toLocalDate());
+                count = 0;
+            }
+            counts[(int) index] = count;
+        }
+    }
+
+    /**
+     * 对 [from, to) 区间做游程编码，输出 [数量, 连续天数, ...]。
+     */
+    private static int[] encode(int[] counts, int from, int to) {
+        int[] runs = new int[Math.max(to - from, 0) * 2];
+        int size = 0;
+        for (int i = from; i < to; i++) {
+            if (size > 0 && runs[size - 2] == counts[i]) {
+                runs[size - 1]++;
+            } else {
+                runs[size++] = counts[i];
+                runs[size++] = 1;
+            }
+        }
+        return Arrays.copyOf(runs, size);
+    }
+
+    /**
+     * 按日期计数的数组。
+     *
+     * @param origin 数组下标 0 对应的日期
+     * @param memos  每日已发布 Memo 数
+     * @param posts  每日已发布文章数
+     */
+    private record Counts(LocalDate origin, int[] memos, int[] posts) {
+    }
+
+    /**
+     * 一次重新加载的结果。
+     *
+     * @param previous 替换前的数量，首次加载时各字段为 null
+     * @param loaded   从数据库加载的数量
+     */
+    private record Reload(Counts previous, Counts loaded) {
+    }
+}
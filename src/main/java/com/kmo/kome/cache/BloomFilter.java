@@ -0,0 +1,91 @@
+package com.kmo.kome.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 字符串 Bloom 过滤器。
+ * <p>
+ * 用于在查询精确集合之前快速排除绝大多数不存在的元素：{@link #mightContain(String)} 返回 false 时元素一定不存在，
+ * 返回 true 时可能存在（误判率由容量与预期元素数决定）。不支持删除，需要移除元素时应重建。
+ * <p>
+ * 使用双重哈希（h1 + i * h2）生成 k 个位置，位数组基于 {@link AtomicLongArray}，可并发读写。
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * 按预期元素数与目标误判率创建过滤器。
+     *
+     * @param expectedInsertions 预期元素数，小于 1 时按 1 计算
+     * @param falsePositiveRate  目标误判率，取值 (0, 1)
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(expectedInsertions, 1);
+        // m = -n * ln(p) / (ln 2)^2，k = m / n * ln 2
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max((m + 63) / 64, 1);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = Math.max((int) Math.round((double) bitCount / n * Math.log(2)), 1);
+    }
+
+    /**
+     * 加入元素。
+     *
+     * @param value 元素
+     */
+    public void put(String value) {
+        long hash = hash64(value);
+        long h1 = hash;
+        long h2 = Long.rotateLeft(hash, 32) * 0x9E3779B97F4A7C15L | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitCount);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+            } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    /**
+     * 判断元素是否可能存在。
+     *
+     * @param value 元素
+     * @return false 表示一定不存在，true 表示可能存在
+     */
+    public boolean mightContain(String value) {
+        long hash = hash64(value);
+        long h1 = hash;
+        long h2 = Long.rotateLeft(hash, 32) * 0x9E3779B97F4A7C15L | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 64 位 FNV-1a 哈希，再经 MurmurHash3 的 fmix64 混合以改善低位分布。
+     */
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
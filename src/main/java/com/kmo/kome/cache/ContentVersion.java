@@ -0,0 +1,109 @@
+package com.kmo.kome.cache;
+
+import com.kmo.kome.event.LinkChangedEvent;
+import com.kmo.kome.event.MemoChangedEvent;
+import com.kmo.kome.event.PostChangedEvent;
+import com.kmo.kome.event.TagChangedEvent;
+import com.kmo.kome.event.UserChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 公开内容版本号。
+ * <p>
+ * 为每类内容维护一个单调递增的代数（generation），内容发生任何写入时递增，用于生成公开接口的 ETag。
+ * 版本号只依赖内存计数，判断客户端缓存是否有效时不需要访问数据库。
+ * <p>
+ * 文章阅读量不属于任何分类：阅读量每个写回周期都会变化，计入版本号会使包含阅读量的接口 ETag 几乎每次都失效，
+ * 因此包含阅读量的接口使用弱 ETag（见 {@link com.kmo.kome.web.ConditionalGet#weak()}），
+ * 条件请求命中时客户端看到的阅读量可能略旧，内容变更后随 ETag 一起刷新。
+ * <p>
+ * 代数保存在内存中，进程重启后从 0 开始，因此 ETag 中同时包含随机生成的启动标识，
+ * 保证重启前签发的 ETag 不会与重启后的版本号冲突。
+ * <p>
+ * 变更事件在 {@link TransactionPhase#AFTER_COMPLETION} 阶段处理，晚于所有 AFTER_COMMIT 阶段的缓存失效监听，
+ * 避免在缓存刷新之前签发新版本号，使旧数据被打上新 ETag。事务回滚时同样会递增，只会多一次缓存失效。
+ */
+@Component
+public class ContentVersion {
+
+    /**
+     * 内容分类。
+     */
+    public enum Domain {
+        /** 文章（含文章与标签的关联） */
+        POST,
+        /** 标签 */
+        TAG,
+        /** 友链 */
+        LINK,
+        /** Memo */
+        MEMO,
+        /** 站点所有者资料 */
+        USER
+    }
+
+    private final String bootId = Long.toString(ThreadLocalRandom.current().nextLong() >>> 1, 36);
+    private final Map<Domain, AtomicLong> generations = new EnumMap<>(Domain.class);
+
+    public ContentVersion() {
+        for (Domain domain : Domain.values()) {
+            generations.put(domain, new AtomicLong());
+        }
+    }
+
+    /**
+     * 根据给定内容分类的当前代数生成强 ETag。
+     * 任一分类发生变更或进程重启后，生成的 ETag 都会不同。
+     *
+     * @param domains 响应内容所依赖的分类
+     * @return 带双引号的 ETag 值，例如 {@code "k3x9.12.4"}
+     */
+    public String etag(Domain... domains) {
+        StringBuilder builder = new StringBuilder().append('"').append(bootId);
+        for (Domain domain : domains) {
+            builder.append('.').append(generations.get(domain).get());
+        }
+        return builder.append('"').toString();
+    }
+
+    /**
+     * 递增指定分类的代数。
+     *
+     * @param domain 发生变更的内容分类
+     */
+    public void bump(Domain domain) {
+        generations.get(domain).incrementAndGet();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        bump(Domain.POST);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onTagChanged(TagChangedEvent event) {
+        bump(Domain.TAG);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onLinkChanged(LinkChangedEvent event) {
+        bump(Domain.LINK);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onMemoChanged(MemoChangedEvent event) {
+        bump(Domain.MEMO);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        bump(Domain.USER);
+    }
+}
@@ -0,0 +1,77 @@
+package com.kmo.kome.cache;
+
+import com.kmo.kome.dto.response.MemoResponse;
+import com.kmo.kome.event.MemoChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * "往年今日" Memo 缓存。
+ * <p>
+ * 结果只与当天日期和 Memo 数据有关，因此只缓存当天的一份结果：
+ * 日期按 {@code kome.time-zone}（与数据库连接的 serverTimezone 一致）计算，过了当地零点后首次读取时自动重新加载；
+ * Memo 发生任何变更后在事务提交后失效。
+ */
+@Component
+public class MemoOnThisDayCache {
+
+    private final ZoneId zoneId;
+
+    /** 失效代数，加载期间发生失效时丢弃加载结果，避免缓存旧数据 */
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile Entry entry;
+
+    public MemoOnThisDayCache(@Value("${kome.time-zone}") String timeZone) {
+        this.zoneId = ZoneId.of(timeZone);
+    }
+
+    /**
+     * 获取当天的"往年今日" Memo 列表，未缓存或已跨天时通过 loader 加载。
+     *
+     * @param loader 根据当天日期查询数据库的加载函数
+     * @return 当天的 Memo 列表，放入缓存后不应再被修改
+     */
+    public List<MemoResponse> get(Function<LocalDate, List<MemoResponse>> loader) {
+        LocalDate today = LocalDate.now(zoneId);
+        Entry current = entry;
+        if (current != null && current.day().equals(today)) {
+            return current.memos();
+        }
+        long loadingGeneration = generation.get();
+        List<MemoResponse> memos = List.copyOf(loader.apply(today));
+        synchronized (this) {
+            if (generation.get() == loadingGeneration) {
+                entry = new Entry(today, memos);
+            }
+        }
+        return memos;
+    }
+
+    /**
+     * Memo 变更后失效缓存。
+     *
+     * @param event Memo 变更事件
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onMemoChanged(MemoChangedEvent event) {
+        generation.incrementAndGet();
+        entry = null;
+    }
+
+    /**
+     * 缓存条目。
+     *
+     * @param day   结果对应的日期
+     * @param memos 往年今日的 Memo 列表
+     */
+    private record Entry(LocalDate day, List<MemoResponse> memos) {
+    }
+}
@@ -0,0 +1,169 @@
+package com.kmo.kome.cache;
+
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import com.kmo.kome.dto.response.MemoStatsResponse;
+import com.kmo.kome.entity.Memo;
+import com.kmo.kome.event.MemoChangedEvent;
+import com.kmo.kome.mapper.MemoMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Memo 统计聚合。
+ * <p>
+ * 在内存中维护已发布 Memo 的总数、总字数、本月新增数与最新发布时间，启动时从数据库加载一次
+ * （只查询 create_time 与 char_length 列，不读取 content），之后根据 {@link MemoChangedEvent} 增量调整，
+ * 统计接口读取时不访问数据库。
+ * <p>
+ * 为支持删除最新一条 Memo 以及跨月，额外保存每条已发布 Memo 的创建时间（按时间排序的计数表）：
+ * 最新发布时间取其最大键，本月新增数在进入新的月份（按 {@code kome.time-zone} 计算）后首次读取时据此重新计算。
+ * <p>
+ * 每天凌晨按 {@code kome.memo.stats-reconcile-cron} 重新从数据库加载，纠正事件遗漏等原因造成的偏差。
+ */
+@Slf4j
+@Component
+public class MemoStatistics {
+
+    private static final int PUBLISHED = 1;
+
+    private final MemoMapper memoMapper;
+    private final ZoneId zoneId;
+
+    private long totalCount;
+    private long totalWords;
+    /** 创建时间 → 该时间创建的已发布 Memo 数，仅在持有对象锁时访问 */
+    private final TreeMap<LocalDateTime, Integer> createTimes = new TreeMap<>();
+    /** 本月新增数对应的月份，与当前月份不同时需要重新计算 */
+    private YearMonth countedMonth;
+    private long thisMonthCount;
+
+    public MemoStatistics(MemoMapper memoMapper, @Value("${kome.time-zone}") String timeZone) {
+        this.memoMapper = memoMapper;
+        this.zoneId = ZoneId.of(timeZone);
+    }
+
+    /**
+     * 启动时从数据库加载统计数据。
+     */
+    @PostConstruct
+    public void load() {
+        List<Memo> memos = query();
+        synchronized (this) {
+            apply(memos);
+        }
+        log.info("Memo statistics loaded, {} published memos, {} words", totalCount, totalWords);
+    }
+
+    /**
+     * 每天定时与数据库对账，存在偏差时以数据库为准并记录日志。
+     */
+    @Scheduled(cron = "${kome.memo.stats-reconcile-cron:0 30 3 * * *}", zone = "${kome.time-zone}")
+    public void reconcile() {
+        List<Memo> memos;
+        try {
+            memos = query();
+        } catch (Exception e) {
+            log.warn("Failed to reconcile memo statistics: {}", e.getMessage());
+            return;
+        }
+        synchronized (this) {
+            long count = totalCount;
+            long words = totalWords;
+            apply(memos);
+            if (count != totalCount || words != totalWords) {
+                log.warn("Memo statistics drifted from database, corrected: count {} -> {}, words {} -> {}",
+                        count, totalCount, words, totalWords);
+            }
+        }
+    }
+
+    /**
+     * 获取当前的 Memo 统计数据。
+     *
+     * @return 已发布 Memo 的总数、总字数、本月新增数与最新发布时间
+     */
+    public synchronized MemoStatsResponse getStats() {
+        YearMonth month = YearMonth.now(zoneId);
+        if (!month.equals(countedMonth)) {
+            countedMonth = month;
+            thisMonthCount = createTimes.tailMap(month.atDay(1).atStartOfDay(), true).values().stream()
+                    .mapToLong(Integer::longValue)
+                    .sum();
+        }
+        return MemoStatsResponse.builder()
+                .totalCount(totalCount)
+                .totalWords(totalWords)
+                .thisMonthCount(thisMonthCount)
+                .latestDate(createTimes.isEmpty() ? null : createTimes.lastKey())
+                .build();
+    }
+
+    /**
+     * Memo 变更后调整统计数据，只有已发布的 Memo 计入统计。
+     *
+     * @param event Memo 变更事件
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onMemoChanged(MemoChangedEvent event) {
+        remove(event.before());
+        add(event.after());
+    }
+
+    private void add(Memo memo) {
+        if (memo == null || !Objects.equals(memo.getStatus(), PUBLISHED) || memo.getCreateTime() == null) {
+            return;
+        }
+        totalCount++;
+        totalWords += charLength(memo);
+        createTimes.merge(memo.getCreateTime(), 1, Integer::sum);
+        if (YearMonth.from(memo.getCreateTime()).equals(countedMonth)) {
+            thisMonthCount++;
+        }
+    }
+
+    private void remove(Memo memo) {
+        if (memo == null || !Objects.equals(memo.getStatus(), PUBLISHED) || memo.getCreateTime() == null) {
+            return;
+        }
+        totalCount--;
+        totalWords -= charLength(memo);
+        createTimes.computeIfPresent(memo.getCreateTime(), (time, count) -> count > 1 ? count - 1 : null);
+        if (YearMonth.from(memo.getCreateTime()).equals(countedMonth)) {
+            thisMonthCount--;
+        }
+    }
+
+    private static long charLength(Memo memo) {
+        return memo.getCharLength() == null ? 0 : memo.getCharLength();
+    }
+
+    /**
+     * 查询全部已发布 Memo 的创建时间与字数，不读取内容。
+     */
+    private List<Memo> query() {
+        return memoMapper.selectList(Wrappers.<Memo>lambdaQuery()
+                .select(Memo::getCreateTime, Memo::getCharLength)
+                .eq(Memo::getStatus, PUBLISHED));
+    }
+
+    private void apply(List<Memo> memos) {
+        totalCount = 0;
+        totalWords = 0;
+        createTimes.clear();
+        // 本月新增数在下次读取时重新计算
+        countedMonth = null;
+        thisMonthCount = 0;
+        memos.forEach(this::add);
+    }
+}
@@ -0,0 +1,306 @@
+package com.kmo.kome.cache;
+
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kmo.kome.dto.response.PostArchiveResponse;
+import com.kmo.kome.dto.response.TagResponse;
+import com.kmo.kome.entity.Post;
+import com.kmo.kome.entity.PostTag;
+import com.kmo.kome.entity.Tag;
+import com.kmo.kome.event.PostChangedEvent;
+import com.kmo.kome.event.TagChangedEvent;
+import com.kmo.kome.mapper.PostMapper;
+import com.kmo.kome.mapper.PostTagMapper;
+import com.kmo.kome.mapper.TagMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 已发布文章的归档树。
+ * <p>
+ * 在内存中维护 年月 → 文章列表 的有序结构（年月降序，月内按创建时间、ID 降序），
+ * 启动时全量加载一次，之后根据文章、标签变更事件增量调整受影响的月份，不再全表扫描。
+ * <p>
+ * 归档接口直接在树上应用关键词和标签过滤，序列化后的 JSON 按过滤条件缓存，
+ * 同一条件的后续请求直接输出缓存的字节。任何变更都会使已缓存的 JSON 失效。
+ */
+@Slf4j
+@Component
+public class PostArchiveIndex {
+
+    private final PostMapper postMapper;
+    private final PostTagMapper postTagMapper;
+    private final TagMapper tagMapper;
+    private final ObjectMapper objectMapper;
+
+    /** 按过滤条件缓存的归档 JSON，key 中包含版本号，旧版本条目不会再被命中 */
+    private final Cache<ArchiveKey, RawValue> jsonCache;
+
+    private volatile State state = new State(Collections.emptyNavigableMap(), Collections.emptyMap(), 0L);
+
+    public PostArchiveIndex(PostMapper postMapper,
+                            PostTagMapper postTagMapper,
+                            TagMapper tagMapper,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${kome.cache.archive.max-size}") long maxSize) {
+        this.postMapper = postMapper;
+        this.postTagMapper = postTagMapper;
+        this.tagMapper = tagMapper;
+        this.objectMapper = objectMapper;
+        this.jsonCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, jsonCache, "postArchive");
+    }
+
+    /**
+     * 启动时从数据库加载全部已发布文章及其标签。
+     */
+    @PostConstruct
+    public synchronized void load() {
+        List<Post> posts = postMapper.selectList(Wrappers.<Post>lambdaQuery()
+                .select(Post::getId, Post::getTitle, Post::getSlug, Post::getCreateTime)
+                .eq(Post::getStatus, 1));
+        Map<Long, List<Long>> tagIdsByPost = postTagMapper.selectList(Wrappers.<PostTag>lambdaQuery()
+                        .select(PostTag::getPostId, PostTag::getTagId))
+                .stream()
+                .collect(Collectors.groupingBy(PostTag::getPostId,
+                        Collectors.mapping(PostTag::getTagId, Collectors.toList())));
+        Map<Long, String> tagNames = tagMapper.selectList(Wrappers.<Tag>lambdaQuery()
+                        .select(Tag::getId, Tag::getName))
+                .stream()
+                .collect(Collectors.toMap(Tag::getId, Tag::getName));
+
+        NavigableMap<YearMonth, List<ArchivePost>> tree = new TreeMap<>(Comparator.reverseOrder());
+        for (Post post : posts) {
+            ArchivePost archivePost = ArchivePost.of(post, tagIdsByPost.getOrDefault(post.getId(), List.of()));
+            tree.computeIfAbsent(YearMonth.from(post.getCreateTime()), key -> new ArrayList<>()).add(archivePost);
+        }
+        tree.replaceAll((month, list) -> list.stream().sorted(ArchivePost.ORDER).toList());
+
+        publish(tree, tagNames);
+        log.info("Post archive index loaded, {} published posts in {} months", posts.size(), tree.size());
+    }
+
+    /**
+     * 获取按条件过滤后的归档数据（已序列化的 JSON）。
+     *
+     * @param keyword 标题关键词，为空时不过滤（不区分大小写）
+     * @param tagId   标签 ID，为空时不过滤
+     * @return 归档列表 {@code List<PostArchiveResponse>} 的 JSON 原始值，可直接作为响应数据输出
+     */
+    public RawValue getArchiveJson(String keyword, Long tagId) {
+        State current = state;
+        String normalizedKeyword = StringUtils.hasText(keyword) ? keyword.toLowerCase(Locale.ROOT) : null;
+        ArchiveKey key = new ArchiveKey(current.version(), normalizedKeyword, tagId);
+        return jsonCache.get(key, k -> serialize(buildArchive(current, k.keyword(), k.tagId())));
+    }
+
+    /**
+     * 文章变更后调整新旧创建时间所在月份的文章列表。
+     *
+     * @param event 文章变更事件
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPostChanged(PostChangedEvent event) {
+        State current = state;
+        NavigableMap<YearMonth, List<ArchivePost>> tree = new TreeMap<>(current.tree());
+
+        Post before = event.before();
+        Post after = event.after();
+        if (before != null) {
+            removePost(tree, before);
+        }
+        if (after != null) {
+            // 防御性移除，避免事件中的旧状态与索引不一致时产生重复条目
+            removePost(tree, after);
+            if (after.getStatus() != null && after.getStatus() == 1) {
+                List<Long> tagIds = postTagMapper.selectList(Wrappers.<PostTag>lambdaQuery()
+                                .select(PostTag::getTagId)
+                                .eq(PostTag::getPostId, after.getId()))
+                        .stream()
+                        .map(PostTag::getTagId)
+                        .toList();
+                YearMonth month = YearMonth.from(after.getCreateTime());
+                List<ArchivePost> list = new ArrayList<>(tree.getOrDefault(month, List.of()));
+                list.add(ArchivePost.of(after, tagIds));
+                list.sort(ArchivePost.ORDER);
+                tree.put(month, List.copyOf(list));
+            }
+        }
+        publish(tree, current.tagNames());
+    }
+
+    /**
+     * 标签变更后更新标签名称表。
+     *
+     * @param event 标签变更事件
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTagChanged(TagChangedEvent event) {
+        State current = state;
+        Map<Long, String> tagNames = new HashMap<>(current.tagNames());
+        if (event.after() != null) {
+            tagNames.put(event.after().getId(), event.after().getName());
+        } else if (event.before() != null) {
+            tagNames.remove(event.before().getId());
+        }
+        publish(current.tree(), tagNames);
+    }
+
+    private void publish(NavigableMap<YearMonth, List<ArchivePost>> tree, Map<Long, String> tagNames) {
+        state = new State(Collections.unmodifiableNavigableMap(tree), Map.copyOf(tagNames), state.version() + 1);
+        jsonCache.invalidateAll();
+    }
+
+    private static void removePost(NavigableMap<YearMonth, List<ArchivePost>> tree, Post post) {
+        if (post.getId() == null) {
+            return;
+        }
+        long id = post.getId();
+        // 优先在创建时间所在月份查找，找不到时退化为全表查找
+        YearMonth hint = post.getCreateTime() == null ? null : YearMonth.from(post.getCreateTime());
+        if (hint != null && removeFromMonth(tree, hint, id)) {
+            return;
+        }
+        for (YearMonth month : new ArrayList<>(tree.keySet())) {
+            if (removeFromMonth(tree, month, id)) {
+                return;
+            }
+        }
+    }
+
+    private static boolean removeFromMonth(NavigableMap<YearMonth, List<ArchivePost>> tree, YearMonth month, long id) {
+        List<ArchivePost> list = tree.get(month);
+        if (list == null || list.stream().noneMatch(post -> post.id() == id)) {
+            return false;
+        }
+        List<ArchivePost> remaining = list.stream().filter(post -> post.id() != id).toList();
+        if (remaining.isEmpty()) {
+            tree.remove(month);
+        } else {
+            tree.put(month, remaining);
+        }
+        return true;
+    }
+
+    /**
+     * 在归档树上应用过滤条件，生成 年 → 月 → 文章 的响应结构。
+     */
+    private static List<PostArchiveResponse> buildArchive(State state, String keyword, Long tagId) {
+        List<PostArchiveResponse> years = new ArrayList<>();
+        PostArchiveResponse currentYear = null;
+        for (Map.Entry<YearMonth, List<ArchivePost>> entry : state.tree().entrySet()) {
+            List<PostArchiveResponse.ArchiveSimplePost> posts = entry.getValue().stream()
+                    .filter(post -> post.matches(keyword, tagId))
+                    .map(post -> post.toResponse(state.tagNames()))
+                    .toList();
+            if (posts.isEmpty()) {
+                continue;
+            }
+
+            YearMonth month = entry.getKey();
+            if (currentYear == null || currentYear.getYear() != month.getYear()) {
+                currentYear = PostArchiveResponse.builder()
+                        .year(month.getYear())
+                        .months(new ArrayList<>())
+                        .total(0)
+                        .build();
+                years.add(currentYear);
+            }
+            currentYear.getMonths().add(PostArchiveResponse.MonthGroup.builder()
+                    .month(month.getMonthValue())
+                    .posts(posts)
+                    .total(posts.size())
+                    .build());
+            currentYear.setTotal(currentYear.getTotal() + posts.size());
+        }
+        return years;
+    }
+
+    private RawValue serialize(List<PostArchiveResponse> archive) {
+        try {
+            SerializedString json = new SerializedString(objectMapper.writeValueAsString(archive));
+            // 预先编码为 UTF-8，后续输出直接写入字节
+            json.asUnquotedUTF8();
+            return new RawValue(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize post archive", e);
+        }
+    }
+
+    /**
+     * 不可变的归档状态快照。
+     *
+     * @param tree     年月（降序）到文章列表的映射
+     * @param tagNames 标签 ID 到名称的映射
+     * @param version  快照版本号，每次变更递增
+     */
+    private record State(NavigableMap<YearMonth, List<ArchivePost>> tree, Map<Long, String> tagNames, long version) {
+    }
+
+    /**
+     * JSON 缓存的 key。
+     */
+    private record ArchiveKey(long version, String keyword, Long tagId) {
+    }
+
+    /**
+     * 归档树中的文章条目。
+     *
+     * @param tagIds 关联的标签 ID，升序排列
+     */
+    private record ArchivePost(long id, String title, String lowerCaseTitle, String slug,
+                               LocalDateTime createTime, long[] tagIds) {
+
+        static final Comparator<ArchivePost> ORDER = Comparator.comparing(ArchivePost::createTime)
+                .thenComparingLong(ArchivePost::id)
+                .reversed();
+
+        static ArchivePost of(Post post, List<Long> tagIds) {
+            long[] sortedTagIds = tagIds.stream().mapToLong(Long::longValue).sorted().toArray();
+            String title = post.getTitle() == null ? "" : post.getTitle();
+            return new ArchivePost(post.getId(), post.getTitle(), title.toLowerCase(Locale.ROOT), post.getSlug(),
+                    post.getCreateTime(), sortedTagIds);
+        }
+
+        boolean matches(String keyword, Long tagId) {
+            if (keyword != null && !lowerCaseTitle.contains(keyword)) {
+                return false;
+            }
+            return tagId == null || Arrays.binarySearch(tagIds, tagId) >= 0;
+        }
+
+        PostArchiveResponse.ArchiveSimplePost toResponse(Map<Long, String> tagNames) {
+            List<TagResponse> tags = new ArrayList<>(tagIds.length);
+            for (long tagId : tagIds) {
+                tags.add(new TagResponse(tagId, tagNames.get(tagId)));
+            }
+            return PostArchiveResponse.ArchiveSimplePost.builder()
+                    .id(id)
+                    .title(title)
+                    .slug(slug)
+                    .tags(tags)
+                    .createTime(createTime)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.kmo.kome.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kmo.kome.dto.response.PostDetailResponse;
+import com.kmo.kome.entity.Post;
+import com.kmo.kome.event.PostChangedEvent;
+import com.kmo.kome.event.TagChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 公开文章详情缓存。
+ * <p>
+ * 以 slug 为 key 缓存组装好的 {@link PostDetailResponse}（文章主体 + 标签），
+ * 按内容大小计算权重，总权重超过 {@code kome.cache.post-detail.max-weight} 时按 W-TinyLFU 策略淘汰。
+ * <p>
+ * 缓存内容不包含会频繁变化的阅读量，读取时由调用方合并 {@link PostViewCounter} 中的实时计数。
+ * 文章增删改、标签重命名在事务提交后通过事件精确失效相关条目。
+ * 每次失效都会递增失效代数，加载前读取的代数与写入时不一致的结果会被丢弃，避免加载期间提交的变更被旧数据覆盖；
+ * 条目另有 {@code kome.cache.post-detail.ttl} 的写入后过期时间作为兜底。
+ * 命中、未命中、淘汰次数通过 /actuator/metrics/cache.* 指标（cache=postDetail）暴露。
+ */
+@Component
+public class PostDetailCache {
+
+    private final Cache<String, CachedPostDetail> cache;
+
+    /** 失效代数，加载期间发生失效时丢弃加载结果，避免缓存旧数据 */
+    private final AtomicLong generation = new AtomicLong();
+
+    public PostDetailCache(MeterRegistry meterRegistry,
+                           @Value("${kome.cache.post-detail.max-weight}") long maxWeight,
+                           @Value("${kome.cache.post-detail.ttl:3600000}") long ttlMillis) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((String slug, CachedPostDetail value) -> value.weight())
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "postDetail");
+    }
+
+    /**
+     * 根据 slug 获取缓存的文章详情。
+     *
+     * @param slug 文章别名
+     * @return 缓存条目，未命中时返回 null
+     */
+    public CachedPostDetail get(String slug) {
+        return cache.getIfPresent(slug);
+    }
+
+    /**
+     * 获取当前的失效代数，应在查询数据库之前读取，并在写入缓存时传回 {@link #put}。
+     *
+     * @return 失效代数
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 缓存文章详情。加载期间发生过失效（代数已变化）时不写入。
+     *
+     * @param slug              文章别名
+     * @param cached            缓存条目，放入缓存后其中的文章详情不应再被修改
+     * @param loadingGeneration 查询数据库之前通过 {@link #generation()} 读取的失效代数
+     */
+    public synchronized void put(String slug, CachedPostDetail cached, long loadingGeneration) {
+        if (generation.get() == loadingGeneration) {
+            cache.put(slug, cached);
+        }
+    }
+
+    /**
+     * 文章变更后失效其新旧 slug 对应的缓存条目。
+     *
+     * @param event 文章变更事件
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPostChanged(PostChangedEvent event) {
+        generation.incrementAndGet();
+        evictSlugOf(event.before());
+        evictSlugOf(event.after());
+    }
+
+    /**
+     * 标签重命名后失效所有引用该标签的文章详情。
+     *
+     * @param event 标签变更事件
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTagChanged(TagChangedEvent event) {
+        if (event.before() == null || event.after() == null) {
+            // 新建标签不影响已有文章，删除的标签必然未被使用
+            return;
+        }
+        generation.incrementAndGet();
+        Long tagId = event.after().getId();
+        cache.asMap().values().removeIf(cached -> cached.detail().getTags() != null
+                && cached.detail().getTags().stream().anyMatch(tag -> tagId.equals(tag.getId())));
+    }
+
+    private void evictSlugOf(Post post) {
+        if (post != null && post.getSlug() != null) {
+            cache.invalidate(post.getSlug());
+        }
+    }
+
+    /**
+     * 缓存条目。
+     *
+     * @param detail    组装好的文章详情（不含上一篇/下一篇导航）
+     * @param baseViews 阅读量基数，实际阅读量 = 基数 + 内存中的累计访问数
+     */
+    public record CachedPostDetail(PostDetailResponse detail, long baseViews) {
+
+        /**
+         * 生成一份可安全修改的副本，并填入实时阅读量。
+         *
+         * @param hits 内存中该文章自启动以来的累计访问数
+         * @return 新的文章详情对象
+         */
+        public PostDetailResponse copyWithViews(long hits) {
+            PostDetailResponse response = new PostDetailResponse();
+            BeanUtils.copyProperties(detail, response);
+            response.setViews((int) (baseViews + hits));
+            return response;
+        }
+
+        /**
+         * 估算条目占用的内存权重（按 UTF-16 字节数计）。
+         */
+        private int weight() {
+            long chars = length(detail.getContent()) + length(detail.getContentHtml()) + length(detail.getExcerpt())
+                    + length(detail.getSummary()) + length(detail.getTitle()) + 256;
+            return (int) Math.min(Integer.MAX_VALUE, chars * 2);
+        }
+
+        private static long length(String value) {
+            return value == null ? 0 : value.length();
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.kmo.kome.cache;
+
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import com.kmo.kome.dto.response.PostNavResponse;
+import com.kmo.kome.entity.Post;
+import com.kmo.kome.event.PostChangedEvent;
+import com.kmo.kome.mapper.PostMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * 已发布文章的上一篇/下一篇导航索引。
+ * <p>
+ * 在内存中维护按 (创建时间, ID) 升序排列的已发布文章快照：
+ * 创建时间（epoch 秒）与 ID 存放在原始类型数组中，标题与别名存放在平行的字符串数组中。
+ * 相邻文章查询为一次二分查找，不访问数据库。
+ * <p>
+ * 启动时从数据库全量加载一次，之后只根据 {@link PostChangedEvent} 增量调整：
+ * 先移除旧位置，再按新状态插入（仅已发布文章）。写操作采用写时复制，读操作无锁。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostNavIndex {
+
+    private final PostMapper postMapper;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * 启动时从数据库加载全部已发布文章。
+     */
+    @PostConstruct
+    public synchronized void load() {
+        List<Post> posts = postMapper.selectList(Wrappers.<Post>lambdaQuery()
+                .select(Post::getId, Post::getTitle, Post::getSlug, Post::getCreateTime)
+                .eq(Post::getStatus, 1)
+                .orderByAsc(Post::getCreateTime, Post::getId));
+
+        int size = posts.size();
+        long[] times = new long[size];
+        long[] ids = new long[size];
+        String[] titles = new String[size];
+        String[] slugs = new String[size];
+        for (int i = 0; i < size; i++) {
+            Post post = posts.get(i);
+            times[i] = epochOf(post.getCreateTime());
+            ids[i] = post.getId();
+            titles[i] = post.getTitle();
+            slugs[i] = post.getSlug();
+        }
+        snapshot = new Snapshot(times, ids, titles, slugs);
+        log.info("Post navigation index loaded, {} published posts", size);
+    }
+
+    /**
+     * 查询上一篇文章：创建时间早于给定时间的已发布文章中最晚的一篇。
+     *
+     * @param createTime 当前文章的创建时间
+     * @return 上一篇文章的导航信息，不存在时返回 null
+     */
+    public PostNavResponse previous(LocalDateTime createTime) {
+        Snapshot current = snapshot;
+        // 第一个 >= t 的位置的前一个元素
+        int index = current.lowerBound(epochOf(createTime), Long.MIN_VALUE) - 1;
+        return current.navAt(index);
+    }
+
+    /**
+     * 查询下一篇文章：创建时间晚于给定时间的已发布文章中最早的一篇。
+     *
+     * @param createTime 当前文章的创建时间
+     * @return 下一篇文章的导航信息，不存在时返回 null
+     */
+    public PostNavResponse next(LocalDateTime createTime) {
+        Snapshot current = snapshot;
+        // 第一个 > t 的位置
+        int index = current.lowerBound(epochOf(createTime), Long.MAX_VALUE);
+        return current.navAt(index);
+    }
+
+    /**
+     * 文章变更后增量调整索引：移除旧条目，已发布的新状态重新插入。
+     *
+     * @param event 文章变更事件
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPostChanged(PostChangedEvent event) {
+        Snapshot updated = snapshot;
+        Post before = event.before();
+        Post after = event.after();
+        if (before != null) {
+            updated = updated.without(before.getId(), epochOf(before.getCreateTime()));
+        }
+        if (after != null && after.getStatus() != null && after.getStatus() == 1) {
+            // 防御性移除，避免旧快照与索引不一致时产生重复条目
+            updated = updated.without(after.getId(), epochOf(after.getCreateTime()))
+                    .with(epochOf(after.getCreateTime()), after.getId(), after.getTitle(), after.getSlug());
+        }
+        snapshot = updated;
+    }
+
+    /**
+     * 根据别名查找已发布文章的 ID（线性扫描别名数组，不访问数据库）。
+     *
+     * @param slug 文章别名
+     * @return 文章 ID，不存在或未发布时返回 null
+     */
+    public Long idOf(String slug) {
+        Snapshot current = snapshot;
+        for (int i = 0; i < current.slugs().length; i++) {
+            if (current.slugs()[i].equals(slug)) {
+                return current.ids()[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 当前索引中的已发布文章数量。
+     */
+    public int size() {
+        return snapshot.size();
+    }
+
+    private static long epochOf(LocalDateTime time) {
+        return time == null ? 0L : time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * 不可变的索引快照，数组按 (times, ids) 升序排列。
+     */
+    private record Snapshot(long[] times, long[] ids, String[] titles, String[] slugs) {
+
+        private static final Snapshot EMPTY = new Snapshot(new long[0], new long[0], new String[0], new String[0]);
+
+        int size() {
+            return ids.length;
+        }
+
+        /**
+         * 返回第一个 (time, id) >= 给定键的位置。
+         */
+        int lowerBound(long time, long id) {
+            int low = 0;
+            int high = ids.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (times[mid] < time || (times[mid] == time && ids[mid] < id)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        PostNavResponse navAt(int index) {
+            if (index < 0 || index >= ids.length) {
+                return null;
+            }
+            return PostNavResponse.builder()
+                    .id(ids[index])
+                    .title(titles[index])
+                    .slug(slugs[index])
+                    .build();
+        }
+
+        Snapshot with(long time, long id, String title, String slug) {
+            int index = lowerBound(time, id);
+            int size = ids.length;
+            long[] newTimes = new long[size + 1];
+            long[] newIds = new long[size + 1];
+            String[] newTitles = new String[size + 1];
+            String[] newSlugs = new String[size + 1];
+            insertAt(times, newTimes, index, size);
+            insertAt(ids, newIds, index, size);
+            insertAt(titles, newTitles, index, size);
+            insertAt(slugs, newSlugs, index, size);
+            newTimes[index] = time;
+            newIds[index] = id;
+            newTitles[index] = title;
+            newSlugs[index] = slug;
+            return new Snapshot(newTimes, newIds, newTitles, newSlugs);
+        }
+
+        Snapshot without(Long id, long time) {
+            if (id == null) {
+                return this;
+            }
+            int index = lowerBound(time, id);
+            if (index >= ids.length || ids[index] != id) {
+                // 创建时间与索引不一致时退化为线性查找
+                index = -1;
+                for (int i = 0; i < ids.length; i++) {
+                    if (ids[i] == id) {
+                        index = i;
+                        break;
+                    }
+                }
+                if (index < 0) {
+                    return this;
+                }
+            }
+            int size = ids.length;
+            long[] newTimes = new long[size - 1];
+            long[] newIds = new long[size - 1];
+            String[] newTitles = new String[size - 1];
+            String[] newSlugs = new String[size - 1];
+            removeAt(times, newTimes, index, size);
+            removeAt(ids, newIds, index, size);
+            removeAt(titles, newTitles, index, size);
+            removeAt(slugs, newSlugs, index, size);
+            return new Snapshot(newTimes, newIds, newTitles, newSlugs);
+        }
+
+        private static void insertAt(Object source, Object target, int index, int size) {
+            System.arraycopy(source, 0, target, 0, index);
+            System.arraycopy(source, index, target, index + 1, size - index);
+        }
+
+        private static void removeAt(Object source, Object target, int index, int size) {
+            System.arraycopy(source, 0, target, 0, index);
+            System.arraycopy(source, index + 1, target, index, size - index - 1);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.kmo.kome.cache;
+
+import com.kmo.kome.mapper.PostMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 文章浏览量写回（Write-Behind）计数器。
+ * <p>
+ * 公开文章详情接口每次访问只在内存中累加（每篇文章一个 {@link LongAdder}，多线程递增无锁竞争），
+ * 由定时任务按 {@code kome.post.view-flush-interval} 间隔批量写回 MySQL，
+ * 避免热门文章在 post 表上形成行锁热点。
+ * <p>
+ * 应用正常关闭时会执行最后一次写回；进程崩溃时最多丢失一个写回间隔内的浏览量。
+ * <p>
+ * 写回序号在每次写回开始和结束时各递增一次（写回期间为奇数），读取数据库阅读量并据此计算
+ * {@code views - flushedOf} 的调用方可以在读取前后比较序号，判断两次读取之间是否发生过写回（见 {@link #flushSequence()}）。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCounter {
+
+    private final PostMapper postMapper;
+    private final MeterRegistry meterRegistry;
+
+    /** 每篇文章的计数槽，key 为文章 ID */
+    private final Map<Long, ViewSlot> slots = new ConcurrentHashMap<>();
+
+    /** 写回序号，写回进行中为奇数 */
+    private final AtomicLong flushSequence = new AtomicLong();
+
+    /**
+     * 注册待写回浏览量指标，可通过 /actuator/metrics/kome.post.views.pending 查看。
+     */
+    @PostConstruct
+    public void registerMetrics() {
+        Gauge.builder("kome.post.views.pending", this, PostViewCounter::pendingCount)
+                .description("尚未写回数据库的文章浏览量")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 为指定文章累加一次浏览量（仅内存操作）。
+     *
+     * @param postId 文章 ID
+     */
+    public void increment(Long postId) {
+        slots.computeIfAbsent(postId, id -> new ViewSlot()).hits.increment();
+    }
+
+    /**
+     * 获取指定文章自启动以来在内存中累计的访问数（包含已写回的部分）。
+     *
+     * @param postId 文章 ID
+     * @return 累计访问数，没有记录时返回 0
+     */
+    public long hitsOf(Long postId) {
+        ViewSlot slot = slots.get(postId);
+        return slot == null ? 0 : slot.hits.sum();
+    }
+
+    /**
+     * 获取指定文章已写回数据库的访问数。
+     * 数据库中的 views 减去该值，再加上 {@link #hitsOf(Long)}，即为实时阅读量。
+     *
+     * @param postId 文章 ID
+     * @return 已写回的访问数，没有记录时返回 0
+     */
+    public long flushedOf(Long postId) {
+        ViewSlot slot = slots.get(postId);
+        return slot == null ? 0 : slot.flushed;
+    }
+
+    /**
+     * 获取所有文章尚未写回数据库的浏览量总和。
+     *
+     * @return 待写回的浏览量总和
+     */
+    public long pendingCount() {
+        long total = 0;
+        for (ViewSlot slot : slots.values()) {
+            total += slot.pending();
+        }
+        return total;
+    }
+
+    /**
+     * 获取当前的写回序号。
+     * 应在查询数据库阅读量之前读取，读取 {@link #flushedOf(Long)} 之后再次读取：
+     * 两次结果相同且为偶数时，查询结果与已写回数量来自同一次写回之间，二者一致。
+     *
+     * @return 写回序号
+     */
+    public long flushSequence() {
+        return flushSequence.get();
+    }
+
+    /**
+     * 判断在 {@link #flushSequence()} 返回给定序号之后是否没有发生过写回。
+     *
+     * @param sequence 查询数据库之前读取的写回序号
+     * @return 序号为偶数且未变化时返回 true
+     */
+    public boolean noFlushSince(long sequence) {
+        return (sequence & 1) == 0 && flushSequence.get() == sequence;
+    }
+
+    /**
+     * 将内存中累加的浏览量批量写回数据库。
+     * <p>
+     * 所有文章的增量合并为一条 UPDATE 语句；写回失败时不推进已写回位置，增量保留到下一次重试。
+     * 方法加锁保证定时写回与关闭时的写回不会并发执行。
+     */
+    @Scheduled(fixedDelayString = "${kome.post.view-flush-interval:10000}")
+    public synchronized void flush() {
+        // 1. 快照每篇文章的累计值，计算本次需要写回的增量
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        Map<ViewSlot, Long> snapshots = new LinkedHashMap<>();
+        slots.forEach((postId, slot) -> {
+            long hits = slot.hits.sum();
+            long delta = hits - slot.flushed;
+            if (delta > 0) {
+                deltas.put(postId, delta);
+                snapshots.put(slot, hits);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        // 2. 一条语句批量写回，成功后再推进已写回位置；前后各递增一次写回序号
+        flushSequence.incrementAndGet();
+        try {
+            postMapper.incrementViews(deltas);
+            snapshots.forEach((slot, hits) -> slot.flushed = hits);
+        } catch (Exception e) {
+            log.warn("Failed to flush post views, {} post(s) will be retried: {}", deltas.size(), e.getMessage());
+        } finally {
+            flushSequence.incrementAndGet();
+        }
+    }
+
+    /**
+     * 应用关闭前执行最后一次写回，保证正常停机不丢失浏览量。
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 单篇文章的计数槽。
+     * hits 为启动以来的累计访问数，flushed 为已写回数据库的部分，两者之差即待写回数量。
+     */
+    private static final class ViewSlot {
+        private final LongAdder hits = new LongAdder();
+        private volatile long flushed;
+
+        private long pending() {
+            return hits.sum() - flushed;
+        }
+    }
+}
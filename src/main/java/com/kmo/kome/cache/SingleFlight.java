@@ -0,0 +1,30 @@
+package com.kmo.kome.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 为 Spring Bean 的方法启用请求合并（single-flight）。
+ * <p>
+ * 同一时刻以相同 key 调用该方法的多个线程中，只有第一个线程真正执行方法体，
+ * 其余线程等待并共享它的返回值或异常；执行结束后立即移除，之后的调用重新执行。
+ * 用于缓存未命中时避免大量并发请求同时击穿到数据库（缓存击穿 / 惊群）。
+ * <p>
+ * 共享的返回值会被多个调用方同时使用，调用方不得修改；
+ * 方法体内不应包含每次调用都必须执行的副作用（如累加阅读量）。
+ * 由 {@link SingleFlightAspect} 实现，仅对通过代理发起的调用生效。
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SingleFlight {
+
+    /**
+     * 合并 key 的 SpEL 表达式，可通过 {@code #参数名} 引用方法参数，例如 {@code "#slug"}。
+     * 实际 key 会加上方法签名前缀，不同方法之间互不影响。为空时同一方法的所有调用合并为一组。
+     */
+    String key() default "";
+}
@@ -0,0 +1,100 @@
+package com.kmo.kome.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * {@link SingleFlight} 切面。
+ * <p>
+ * 以 "方法签名 + SpEL key" 为 key 在 {@link ConcurrentHashMap} 中登记进行中的调用：
+ * 第一个调用方放入 {@link CompletableFuture} 并执行方法，完成后移除并通知等待者；
+ * 后续调用方直接等待同一个 future。方法抛出的异常原样传递给所有等待者。
+ * <p>
+ * 被合并的调用次数通过 /actuator/metrics/kome.singleflight.shared 指标暴露。
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class SingleFlightAspect {
+
+    private static final SpelExpressionParser PARSER = new SpelExpressionParser();
+    private static final ParameterNameDiscoverer PARAMETER_NAMES = new DefaultParameterNameDiscoverer();
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<Method, Expression> expressions = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    @Around("@annotation(singleFlight)")
+    public Object around(ProceedingJoinPoint joinPoint, SingleFlight singleFlight) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String key = keyOf(method, singleFlight, joinPoint);
+
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            sharedCounter(method).increment();
+            return await(existing);
+        }
+
+        try {
+            Object result = joinPoint.proceed();
+            future.complete(result);
+            return result;
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private String keyOf(Method method, SingleFlight singleFlight, ProceedingJoinPoint joinPoint) {
+        String prefix = method.getDeclaringClass().getName() + '#' + method.getName();
+        if (!StringUtils.hasText(singleFlight.key())) {
+            return prefix;
+        }
+        Expression expression = expressions.computeIfAbsent(method, m -> PARSER.parseExpression(singleFlight.key()));
+        MethodBasedEvaluationContext context =
+                new MethodBasedEvaluationContext(joinPoint.getTarget(), method, joinPoint.getArgs(), PARAMETER_NAMES);
+        return prefix + ':' + expression.getValue(context, String.class);
+    }
+
+    private Counter sharedCounter(Method method) {
+        return Counter.builder("kome.singleflight.shared")
+                .description("Calls that waited for an identical in-flight call instead of executing")
+                .tag("method", method.getDeclaringClass().getSimpleName() + '.' + method.getName())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 等待进行中的调用完成，并还原其原始异常。
+     */
+    private static Object await(CompletableFuture<Object> future) throws Throwable {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+}
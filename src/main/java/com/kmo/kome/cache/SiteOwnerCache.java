@@ -0,0 +1,95 @@
+package com.kmo.kome.cache;
+
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import com.kmo.kome.dto.response.PublicSiteInfoResponse;
+import com.kmo.kome.entity.User;
+import com.kmo.kome.event.UserChangedEvent;
+import com.kmo.kome.mapper.UserMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 站点所有者公开资料缓存。
+ * <p>
+ * 缓存站点信息接口中的 {@link PublicSiteInfoResponse.OwnerInfo}，首次读取时从数据库加载一次
+ * （包括 social_links、skills 两个 JSON 列的反序列化），之后直接返回同一个对象。
+ * 所有者资料在事务提交后通过 {@link UserChangedEvent} 失效，下一次读取时重新加载。
+ * <p>
+ * 同时记忆站点是否已初始化：所有者账户创建后不会被删除，一旦确认已初始化就不再查询数据库；
+ * 未初始化的结果不做缓存，保证初始化完成后立即可见。
+ */
+@Component
+@RequiredArgsConstructor
+public class SiteOwnerCache {
+
+    private final UserMapper userMapper;
+
+    private volatile PublicSiteInfoResponse.OwnerInfo ownerInfo;
+    private volatile boolean initialized;
+
+    /**
+     * 获取站点所有者的公开资料。
+     *
+     * @return 所有者资料，放入缓存后不应再被修改；尚未创建所有者账户时返回 null
+     */
+    public PublicSiteInfoResponse.OwnerInfo getOwnerInfo() {
+        PublicSiteInfoResponse.OwnerInfo cached = ownerInfo;
+        if (cached != null) {
+            return cached;
+        }
+        synchronized (this) {
+            if (ownerInfo == null) {
+                ownerInfo = loadOwnerInfo();
+            }
+            return ownerInfo;
+        }
+    }
+
+    /**
+     * 判断站点是否已初始化（存在所有者账户）。
+     *
+     * @return true 表示已初始化
+     */
+    public boolean isInitialized() {
+        if (initialized) {
+            return true;
+        }
+        boolean exists = userMapper.exists(Wrappers.<User>lambdaQuery().eq(User::getIsOwner, true));
+        if (exists) {
+            initialized = true;
+        }
+        return exists;
+    }
+
+    /**
+     * 用户变更后失效所有者资料，创建所有者账户后标记站点已初始化。
+     *
+     * @param event 用户变更事件
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onUserChanged(UserChangedEvent event) {
+        ownerInfo = null;
+        if (event.after() != null && Boolean.TRUE.equals(event.after().getIsOwner())) {
+            initialized = true;
+        }
+    }
+
+    private PublicSiteInfoResponse.OwnerInfo loadOwnerInfo() {
+        User user = userMapper.selectOne(Wrappers.<User>lambdaQuery()
+                .eq(User::getIsOwner, true)
+                .last("LIMIT 1"));
+        if (user == null) {
+            return null;
+        }
+        return PublicSiteInfoResponse.OwnerInfo.builder()
+                // 如未设置昵称，则返回用户名用于前端显示兜底
+                .nickname(user.getNickname() != null ? user.getNickname() : user.getUsername())
+                .avatar(user.getAvatar())
+                .description(user.getDescription())
+                .createdAt(user.getCreateTime())
+                .socialLinks(user.getSocialLinks())
+                .skills(user.getSkills())
+                .build();
+    }
+}
@@ -0,0 +1,313 @@
+package com.kmo.kome.cache;
+
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import com.kmo.kome.entity.Link;
+import com.kmo.kome.entity.Memo;
+import com.kmo.kome.entity.Post;
+import com.kmo.kome.entity.PostTag;
+import com.kmo.kome.event.LinkChangedEvent;
+import com.kmo.kome.event.MemoChangedEvent;
+import com.kmo.kome.event.PostChangedEvent;
+import com.kmo.kome.event.TagChangedEvent;
+import com.kmo.kome.mapper.LinkMapper;
+import com.kmo.kome.mapper.MemoMapper;
+import com.kmo.kome.mapper.PostMapper;
+import com.kmo.kome.mapper.PostTagMapper;
+import com.kmo.kome.mapper.TagMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 站点统计计数器。
+ * <p>
+ * 在内存中维护文章、Memo、友链按状态划分的数量，以及标签总数和使用中（关联了已发布文章）的标签数，
+ * 启动时从数据库加载一次，之后根据文章、Memo、友链、标签的变更事件增量调整，站点信息接口读取时不访问数据库。
+ * <p>
+ * 为判断标签是否在使用中，额外保存每篇已发布文章关联的标签 ID 以及每个标签关联的已发布文章数。
+ * <p>
+ * 对账任务按 {@code kome.site.stats-reconcile-interval} 间隔重新从数据库加载，纠正事件遗漏等原因造成的偏差。
+ * 对账与事件处理互斥执行；对账期间提交的变更可能被重复计入，会在下一次对账时纠正。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SiteStatistics {
+
+    private static final int PUBLISHED = 1;
+    private static final int DRAFT = 0;
+
+    private final PostMapper postMapper;
+    private final PostTagMapper postTagMapper;
+    private final TagMapper tagMapper;
+    private final MemoMapper memoMapper;
+    private final LinkMapper linkMapper;
+
+    private final AtomicLong publishedPostCount = new AtomicLong();
+    private final AtomicLong draftPostCount = new AtomicLong();
+    private final AtomicLong publishedMemoCount = new AtomicLong();
+    private final AtomicLong draftMemoCount = new AtomicLong();
+    private final AtomicLong publishedLinkCount = new AtomicLong();
+    private final AtomicLong draftLinkCount = new AtomicLong();
+    private final AtomicLong tagCount = new AtomicLong();
+    private final AtomicLong usedTagCount = new AtomicLong();
+
+    /** 已发布文章 ID → 关联的标签 ID，仅在持有对象锁时访问 */
+    private final Map<Long, Set<Long>> publishedPostTags = new HashMap<>();
+    /** 标签 ID → 关联的已发布文章数，仅包含数量大于 0 的标签，仅在持有对象锁时访问 */
+    private final Map<Long, Integer> tagUsage = new HashMap<>();
+
+    /**
+     * 启动时从数据库加载全部统计数据。
+     */
+    @PostConstruct
+    public void load() {
+        Snapshot snapshot = query();
+        synchronized (this) {
+            apply(snapshot);
+        }
+        log.info("Site statistics loaded, {} published posts, {} tags ({} used)",
+                snapshot.publishedPostCount(), snapshot.tagCount(), snapshot.tagUsage().size());
+    }
+
+    /**
+     * 定时与数据库对账，存在偏差时以数据库为准并记录日志。
+     */
+    @Scheduled(initialDelayString = "${kome.site.stats-reconcile-interval:3600000}",
+            fixedDelayString = "${kome.site.stats-reconcile-interval:3600000}")
+    public void reconcile() {
+        Snapshot snapshot;
+        try {
+            snapshot = query();
+        } catch (Exception e) {
+            log.warn("Failed to reconcile site statistics: {}", e.getMessage());
+            return;
+        }
+        synchronized (this) {
+            Snapshot current = new Snapshot(publishedPostCount.get(), draftPostCount.get(),
+                    publishedMemoCount.get(), draftMemoCount.get(), publishedLinkCount.get(), draftLinkCount.get(),
+                    tagCount.get(), publishedPostTags, tagUsage);
+            if (!current.equals(snapshot)) {
+                log.warn("Site statistics drifted from database, corrected: {} -> {}", current.summary(), snapshot.summary());
+            }
+            apply(snapshot);
+        }
+    }
+
+    public long publishedPostCount() {
+        return publishedPostCount.get();
+    }
+
+    public long draftPostCount() {
+        return draftPostCount.get();
+    }
+
+    public long publishedMemoCount() {
+        return publishedMemoCount.get();
+    }
+
+    public long draftMemoCount() {
+        return draftMemoCount.get();
+    }
+
+    public long publishedLinkCount() {
+        return publishedLinkCount.get();
+    }
+
+    public long draftLinkCount() {
+        return draftLinkCount.get();
+    }
+
+    /**
+     * @return 关联了至少一篇已发布文章的标签数量
+     */
+    public long usedTagCount() {
+        return usedTagCount.get();
+    }
+
+    /**
+     * @return 未关联任何已发布文章的标签数量
+     */
+    public long unusedTagCount() {
+        return Math.max(tagCount.get() - usedTagCount.get(), 0);
+    }
+
+    /**
+     * 文章变更后调整文章数量，并重新登记该文章关联的标签。
+     *
+     * @param event 文章变更事件
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPostChanged(PostChangedEvent event) {
+        Post before = event.before();
+        Post after = event.after();
+        adjust(before == null ? null : before.getStatus(), -1, publishedPostCount, draftPostCount);
+        adjust(after == null ? null : after.getStatus(), 1, publishedPostCount, draftPostCount);
+
+        Long postId = after != null ? after.getId() : before != null ? before.getId() : null;
+        if (postId == null) {
+            return;
+        }
+        Set<Long> oldTagIds = publishedPostTags.remove(postId);
+        if (oldTagIds != null) {
+            oldTagIds.forEach(tagId -> changeUsage(tagId, -1));
+        }
+        if (after != null && Objects.equals(after.getStatus(), PUBLISHED)) {
+            Set<Long> tagIds = postTagMapper.selectList(Wrappers.<PostTag>lambdaQuery()
+                            .select(PostTag::getTagId)
+                            .eq(PostTag::getPostId, postId))
+                    .stream()
+                    .map(PostTag::getTagId)
+                    .collect(Collectors.toSet());
+            publishedPostTags.put(postId, tagIds);
+            tagIds.forEach(tagId -> changeUsage(tagId, 1));
+        }
+    }
+
+    /**
+     * 标签新建或删除后调整标签总数。被文章使用的标签不允许删除，删除时无需调整使用数。
+     *
+     * @param event 标签变更事件
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTagChanged(TagChangedEvent event) {
+        if (event.before() == null && event.after() != null) {
+            tagCount.incrementAndGet();
+        } else if (event.before() != null && event.after() == null) {
+            tagCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * Memo 变更后调整 Memo 数量。
+     *
+     * @param event Memo 变更事件
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onMemoChanged(MemoChangedEvent event) {
+        Memo before = event.before();
+        Memo after = event.after();
+        adjust(before == null ? null : before.getStatus(), -1, publishedMemoCount, draftMemoCount);
+        adjust(after == null ? null : after.getStatus(), 1, publishedMemoCount, draftMemoCount);
+    }
+
+    /**
+     * 友链变更后调整友链数量。
+     *
+     * @param event 友链变更事件
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onLinkChanged(LinkChangedEvent event) {
+        Link before = event.before();
+        Link after = event.after();
+        adjust(before == null ? null : before.getStatus(), -1, publishedLinkCount, draftLinkCount);
+        adjust(after == null ? null : after.getStatus(), 1, publishedLinkCount, draftLinkCount);
+    }
+
+    private static void adjust(Integer status, int delta, AtomicLong published, AtomicLong draft) {
+        if (status == null) {
+            return;
+        }
+        if (status == PUBLISHED) {
+            published.addAndGet(delta);
+        } else if (status == DRAFT) {
+            draft.addAndGet(delta);
+        }
+    }
+
+    private void changeUsage(Long tagId, int delta) {
+        int before = tagUsage.getOrDefault(tagId, 0);
+        int after = before + delta;
+        if (after > 0) {
+            tagUsage.put(tagId, after);
+        } else {
+            tagUsage.remove(tagId);
+        }
+        if (before == 0 && after > 0) {
+            usedTagCount.incrementAndGet();
+        } else if (before > 0 && after <= 0) {
+            usedTagCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * 从数据库查询全部统计数据，不修改当前计数。
+     */
+    private Snapshot query() {
+        Set<Long> publishedPostIds = postMapper.selectList(Wrappers.<Post>lambdaQuery()
+                        .select(Post::getId)
+                        .eq(Post::getStatus, PUBLISHED))
+                .stream()
+                .map(Post::getId)
+                .collect(Collectors.toSet());
+        Map<Long, Set<Long>> postTags = new HashMap<>();
+        for (Long postId : publishedPostIds) {
+            postTags.put(postId, new HashSet<>());
+        }
+        for (PostTag postTag : postTagMapper.selectList(Wrappers.<PostTag>lambdaQuery()
+                .select(PostTag::getPostId, PostTag::getTagId))) {
+            Set<Long> tagIds = postTags.get(postTag.getPostId());
+            if (tagIds != null) {
+                tagIds.add(postTag.getTagId());
+            }
+        }
+        Map<Long, Integer> usage = new HashMap<>();
+        postTags.values().forEach(tagIds -> tagIds.forEach(tagId -> usage.merge(tagId, 1, Integer::sum)));
+
+        return new Snapshot(
+                publishedPostIds.size(),
+                postMapper.selectCount(Wrappers.<Post>lambdaQuery().eq(Post::getStatus, DRAFT)),
+                memoMapper.selectCount(Wrappers.<Memo>lambdaQuery().eq(Memo::getStatus, PUBLISHED)),
+                memoMapper.selectCount(Wrappers.<Memo>lambdaQuery().eq(Memo::getStatus, DRAFT)),
+                linkMapper.selectCount(Wrappers.<Link>lambdaQuery().eq(Link::getStatus, PUBLISHED)),
+                linkMapper.selectCount(Wrappers.<Link>lambdaQuery().eq(Link::getStatus, DRAFT)),
+                tagMapper.selectCount(null),
+                postTags,
+                usage);
+    }
+
+    private void apply(Snapshot snapshot) {
+        publishedPostCount.set(snapshot.publishedPostCount());
+        draftPostCount.set(snapshot.draftPostCount());
+        publishedMemoCount.set(snapshot.publishedMemoCount());
+        draftMemoCount.set(snapshot.draftMemoCount());
+        publishedLinkCount.set(snapshot.publishedLinkCount());
+        draftLinkCount.set(snapshot.draftLinkCount());
+        tagCount.set(snapshot.tagCount());
+        publishedPostTags.clear();
+        snapshot.publishedPostTags().forEach((postId, tagIds) -> publishedPostTags.put(postId, new HashSet<>(tagIds)));
+        tagUsage.clear();
+        tagUsage.putAll(snapshot.tagUsage());
+        usedTagCount.set(tagUsage.size());
+    }
+
+    /**
+     * 从数据库查询得到的统计数据。
+     */
+    private record Snapshot(long publishedPostCount, long draftPostCount,
+                            long publishedMemoCount, long draftMemoCount,
+                            long publishedLinkCount, long draftLinkCount,
+                            long tagCount,
+                            Map<Long, Set<Long>> publishedPostTags,
+                            Map<Long, Integer> tagUsage) {
+
+        String summary() {
+            return "posts=" + publishedPostCount + "/" + draftPostCount
+                    + ", memos=" + publishedMemoCount + "/" + draftMemoCount
+                    + ", links=" + publishedLinkCount + "/" + draftLinkCount
+                    + ", tags=" + tagUsage.size() + "/" + tagCount;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.kmo.kome.common;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * 游标分页（Keyset Pagination）的位置标记。
+ * <p>
+ * 记录上一页最后一条记录的排序键 (is_pinned, create_time, id)，
+ * 下一页通过 "排序键严格小于游标" 的条件直接定位，无需 OFFSET 扫描和 COUNT 查询。
+ * 对外以 Base64URL 编码的不透明字符串传递，客户端不应解析其内容。
+ *
+ * @param pinned     是否置顶（不区分置顶的列表固定为 false）
+ * @param createTime 创建时间
+ * @param id         记录 ID，用于创建时间相同时的排序兜底
+ */
+public record PageCursor(boolean pinned, LocalDateTime createTime, long id) {
+
+    private static final char SEPARATOR = ':';
+
+    /**
+     * 编码为不透明的游标字符串。
+     *
+     * @return Base64URL 编码（无填充）的游标
+     */
+    public String encode() {
+        String raw = (pinned ? "1" : "0") + SEPARATOR
+                + createTime.toEpochSecond(ZoneOffset.UTC) + SEPARATOR
+                + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 解析客户端传回的游标字符串。
+     *
+     * @param cursor 游标字符串
+     * @return 解析后的游标
+     * @throws IllegalArgumentException 如果游标格式不合法
+     */
+    public static PageCursor decode(String cursor) {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+        String[] parts = raw.split(String.valueOf(SEPARATOR), -1);
+        if (parts.length != 3 || !("0".equals(parts[0]) || "1".equals(parts[0]))) {
+            throw new IllegalArgumentException("Malformed page cursor");
+        }
+        LocalDateTime createTime = LocalDateTime.ofEpochSecond(Long.parseLong(parts[1]), 0, ZoneOffset.UTC);
+        return new PageCursor("1".equals(parts[0]), createTime, Long.parseLong(parts[2]));
+    }
+}
@@ -10,6 +10,7 @@ import java.util.List;
 /**
  * 表示分页查询结果的通用类。
  * 该类用于封装分页查询返回的记录列表、总记录数、每页记录数以及当前页码等信息。
+ * 支持游标分页的接口还会返回下一页的游标 {@code nextCursor}，游标分页时不统计总记录数。
  *
  * @param <T> 分页查询记录的类型。
  */
@@ -22,4 +23,6 @@ public class PageResult<T> {
     private Long total;
     private Long size;
     private Long current;
+    // 下一页游标，没有更多数据或接口不支持游标分页时为 null
+    private String nextCursor;
 }
@@ -53,6 +53,12 @@ public enum ResultCode {
      * 该枚举常量通常用于处理客户端尝试使用未被服务器允许的方法（如 PUT、DELETE 等）的场景。
      */
     METHOD_NOT_ALLOWED(405, "Method Not Allowed", HttpStatus.METHOD_NOT_ALLOWED),
+    /**
+     * 表示客户端请求过于频繁的状态码枚举值。
+     * 状态码为 429，描述信息为 "Too Many Requests"，对应的 HTTP 状态为 HttpStatus.TOO_MANY_REQUESTS。
+     * 该枚举常量通常用于服务端处理能力已饱和或请求超出频率限制、需要客户端稍后重试的场景。
+     */
+    TOO_MANY_REQUESTS(429, "Too Many Requests", HttpStatus.TOO_MANY_REQUESTS),
     /**
      * 表示服务器内部错误的状态码枚举值。
      * 状态码为 500，描述信息为 "Internal Server Error"，对应的 HTTP 状态为 HttpStatus.INTERNAL_SERVER_ERROR。
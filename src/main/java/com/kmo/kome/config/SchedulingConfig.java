@@ -0,0 +1,14 @@
+package com.kmo.kome.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 定时任务配置类。
+ * <p>
+ * 开启 Spring 的 {@code @Scheduled} 支持，用于浏览量写回等后台周期任务。
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -3,6 +3,7 @@ package com.kmo.kome.config;
 import com.kmo.kome.security.JwtAccessDeniedHandler;
 import com.kmo.kome.security.JwtAuthenticationEntryPoint;
 import com.kmo.kome.security.JwtAuthenticationFilter;
+import com.kmo.kome.security.LoginRateLimitFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -20,7 +21,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  * 1. 禁用 CSRF 并设置会话为无状态模式；
  * 2. 配置异常处理器，处理 JWT 认证失败或权限不足的情况；
  * 3. 配置接口权限控制规则，例如开放登录接口，保护后台管理接口；
- * 4. 添加 JWT 认证过滤器至过滤器链。
+ * 4. 添加登录频率限制过滤器与 JWT 认证过滤器至过滤器链。
  */
 @Configuration
 @EnableWebSecurity
@@ -28,6 +29,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final LoginRateLimitFilter loginRateLimitFilter;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
 
@@ -39,7 +41,7 @@ public class SecurityConfig {
      * 2. 设置会话为无状态模式，使用 JWT 进行认证；
      * 3. 配置异常处理器，处理认证失败（401 未认证）或权限不足（403 禁止访问）的情况；
      * 4. 配置接口权限规则，开放特定接口访问权限，保护需认证的接口；
-     * 5. 将自定义的 JWT 认证过滤器添加到过滤器链的指定位置。
+     * 5. 将登录频率限制过滤器和自定义的 JWT 认证过滤器添加到过滤器链的指定位置。
      *
      * @param http HttpSecurity 对象，用于配置安全策略。
      * @return 配置完成的 SecurityFilterChain 实例。
@@ -65,9 +67,13 @@ public class SecurityConfig {
                         .requestMatchers("/api/site/initialized", "/api/site/setup").permitAll()
                         // 后台管理接口 (需认证)
                         .requestMatchers("/api/admin/**").authenticated()
+                        // 监控指标 (需认证，健康检查保持公开)
+                        .requestMatchers("/actuator/metrics/**").authenticated()
                         // 其他接口
                         .anyRequest().permitAll()
                 )
+                // 添加登录频率限制过滤器（在认证之前拒绝超限的登录请求）
+                .addFilterBefore(loginRateLimitFilter, UsernamePasswordAuthenticationFilter.class)
                 // 添加 JWT 过滤器
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
@@ -0,0 +1,28 @@
+package com.kmo.kome.config;
+
+import com.kmo.kome.web.CachedResponseInterceptor;
+import com.kmo.kome.web.ConditionalGetInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Spring MVC 配置类。
+ * <p>
+ * 注册公开接口的条件请求拦截器 {@link ConditionalGetInterceptor} 与响应字节缓存拦截器
+ * {@link CachedResponseInterceptor}。后者依赖前者写入的 ETag，注册顺序不可调换。
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final ConditionalGetInterceptor conditionalGetInterceptor;
+    private final CachedResponseInterceptor cachedResponseInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(conditionalGetInterceptor).addPathPatterns("/api/**");
+        registry.addInterceptor(cachedResponseInterceptor).addPathPatterns("/api/**");
+    }
+}
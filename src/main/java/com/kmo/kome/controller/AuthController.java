@@ -7,12 +7,16 @@ import com.kmo.kome.dto.response.AuthLoginResponse;
 import com.kmo.kome.service.AuthService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 认证控制器。
  * 负责登录与当前认证信息获取。
@@ -25,13 +29,26 @@ public class AuthController {
 
     /**
      * 处理用户登录请求，校验凭证并返回 JWT 会话信息。
+     * 凭证校验异步执行，等待期间释放请求线程。
      *
      * @param request 登录请求对象，包含用户名和密码。
-     * @return 包含登录成功后令牌等数据的 {@code Result<AuthLoginResponse>} 实例。
+     * @return 完成后包含登录成功后令牌等数据的 {@code Result<AuthLoginResponse>} 实例。
      */
     @PostMapping("/api/auth/login")
-    public Result<AuthLoginResponse> login(@Valid @RequestBody AuthLoginRequest request) {
-        return Result.success(authService.login(request));
+    public CompletableFuture<Result<AuthLoginResponse>> login(@Valid @RequestBody AuthLoginRequest request) {
+        return authService.login(request).thenApply(Result::success);
+    }
+
+    /**
+     * 注销登录，吊销当前请求携带的 Token。
+     *
+     * @param authorization Authorization 请求头，格式为 "Bearer xxx"。
+     * @return 一个空的 {@code Result<Void>} 对象，表示注销操作的结果。
+     */
+    @PostMapping("/api/admin/auth/logout")
+    public Result<Void> logout(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) {
+        authService.logout(authorization.substring("Bearer ".length()));
+        return Result.success();
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.kmo.kome.controller;
 
+import com.kmo.kome.cache.ContentVersion.Domain;
 import com.kmo.kome.common.PageResult;
 import com.kmo.kome.common.Result;
 import com.kmo.kome.dto.request.LinkCreateRequest;
@@ -8,6 +9,8 @@ import com.kmo.kome.dto.request.LinkQueryRequest;
 import com.kmo.kome.dto.request.LinkUpdateRequest;
 import com.kmo.kome.dto.response.LinkResponse;
 import com.kmo.kome.service.LinkService;
+import com.kmo.kome.web.CachedResponse;
+import com.kmo.kome.web.ConditionalGet;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
@@ -70,6 +73,8 @@ public class LinkController {
      * @return 包含公开友链信息的结果对象，数据为 {@code List<LinkResponse>} 类型。
      */
     @GetMapping("/api/links")
+    @ConditionalGet(Domain.LINK)
+    @CachedResponse
     public Result<List<LinkResponse>> getPublicLinkList(LinkPublicQueryRequest request){
         return Result.success(linkService.getPublicLinkList(request));
     }
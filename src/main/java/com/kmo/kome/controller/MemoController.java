@@ -1,13 +1,16 @@
 package com.kmo.kome.controller;
 
+import com.kmo.kome.cache.ContentVersion.Domain;
 import com.kmo.kome.common.PageResult;
 import com.kmo.kome.common.Result;
 import com.kmo.kome.dto.request.MemoCreateRequest;
 import com.kmo.kome.dto.request.MemoQueryRequest;
 import com.kmo.kome.dto.request.MemoUpdateRequest;
+import com.kmo.kome.dto.response.ActivityHeatmapResponse;
 import com.kmo.kome.dto.response.MemoResponse;
 import com.kmo.kome.dto.response.MemoStatsResponse;
 import com.kmo.kome.service.MemoService;
+import com.kmo.kome.web.ConditionalGet;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
@@ -66,11 +69,13 @@ public class MemoController {
     /**
      * 查询公开的 Memo 分页列表。
      * 根据请求参数筛选符合条件的 Memo ，返回分页结果。
+     * 携带上一页返回的 nextCursor 作为 cursor 参数时使用游标分页，不返回总数。
      *
-     * @param request 包含分页参数（页码、每页记录数）及筛选条件（关键词、状态）的查询请求对象。
+     * @param request 包含分页参数（页码或游标、每页记录数）及筛选条件（关键词、状态）的查询请求对象。
      * @return 包含公开 Memo 分页数据的结果对象，数据类型为 {@code Result<PageResult<MemoResponse>>}。
      */
     @GetMapping("/api/memos")
+    @ConditionalGet(Domain.MEMO)
     public Result<PageResult<MemoResponse>> getPublicMemoPage(@Valid MemoQueryRequest request){
         return Result.success(memoService.getPublicMemoPage(request));
     }
@@ -111,6 +116,18 @@ public class MemoController {
         return Result.success(memoService.getMemoStats());
     }
 
+    /**
+     * 获取活动热力图数据。
+     * 返回最近若干年（截至今天）每天发布的 Memo 数与文章数，采用游程编码。
+     *
+     * @param years 年数，默认为 1。
+     * @return 包含每日数量的结果对象。
+     */
+    @GetMapping("/api/memos/heatmap")
+    public Result<ActivityHeatmapResponse> getActivityHeatmap(@RequestParam(value = "years", defaultValue = "1") Integer years){
+        return Result.success(memoService.getActivityHeatmap(years));
+    }
+
     /**
      * 获取往年今日的 Memo 列表。
      * 查询历史上同月同日发布的 Memo，按创建时间倒序排列。
@@ -1,21 +1,24 @@
 package com.kmo.kome.controller;
 
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.kmo.kome.cache.ContentVersion.Domain;
 import com.kmo.kome.common.PageResult;
 import com.kmo.kome.common.Result;
 import com.kmo.kome.dto.request.PostArchiveQueryRequest;
 import com.kmo.kome.dto.request.PostCreateRequest;
 import com.kmo.kome.dto.request.PostQueryRequest;
+import com.kmo.kome.dto.request.PostSearchRequest;
 import com.kmo.kome.dto.request.PostUpdateRequest;
-import com.kmo.kome.dto.response.PostArchiveResponse;
 import com.kmo.kome.dto.response.PostDetailResponse;
+import com.kmo.kome.dto.response.PostSearchResponse;
 import com.kmo.kome.dto.response.PostSimpleResponse;
 import com.kmo.kome.service.PostService;
+import com.kmo.kome.web.CachedResponse;
+import com.kmo.kome.web.ConditionalGet;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 /**
  * 文章控制器。
  * <p>
@@ -79,13 +82,21 @@ public class PostController {
     /**
      * 根据文章的唯一标识符（slug）获取文章详情。
      * 调用服务层方法查询指定 slug 的文章信息，并返回包含文章详情的结果对象。
+     * ETag 不包含阅读量，因此使用弱 ETag，文章内容未变时客户端复用缓存中的阅读量；
+     * 条件请求命中（304）时由拦截器累加阅读量，每次访问都会计数。
      *
      * @param slug 文章的唯一标识符，用于精确定位文章。
+     * @param format 正文格式：html 返回保存时预渲染的 HTML（contentHtml），其他值或缺省时返回 Markdown 原文（content）。
      * @return 包含文章详细信息的结果对象 {@code Result<PostDetailResponse>}。
      */
     @GetMapping("/api/posts/{slug}")
-    public Result<PostDetailResponse> getPostBySlug(@PathVariable String slug){
-        return Result.success(postService.getPostBySlug(slug));
+    @ConditionalGet(value = {Domain.POST, Domain.TAG}, weak = true, countPostView = true)
+    public Result<PostDetailResponse> getPostBySlug(@PathVariable String slug,
+                                                    @RequestParam(required = false) String format){
+        PostDetailResponse response = postService.getPostBySlug(slug, "html".equalsIgnoreCase(format));
+        // 阅读量在控制器中逐次累加：getPostBySlug 的并发调用会被合并，不能在其中计数
+        postService.recordPostView(response.getId());
+        return Result.success(response);
     }
 
     /**
@@ -104,25 +115,41 @@ public class PostController {
     /**
      * 获取公开文章的分页列表。
      * 根据传入的查询参数，返回符合条件的公开文章分页数据，包括每篇文章的概要信息。
+     * 携带上一页返回的 nextCursor 作为 cursor 参数时使用游标分页，不返回总数。
+     * ETag 不包含阅读量，因此使用弱 ETag，首页响应字节缓存按 {@code kome.cache.response.ttl} 过期以刷新阅读量。
      *
-     * @param request 查询文章的请求参数，包括分页信息（页码和每页数量）、
+     * @param request 查询文章的请求参数，包括分页信息（页码或游标、每页数量）、
      *                关键词、标签筛选及状态筛选等字段。
      * @return 包含公开文章分页数据的结果对象 {@code Result<PageResult<PostSimpleResponse>>}。
      */
     @GetMapping("/api/posts")
+    @ConditionalGet(value = {Domain.POST, Domain.TAG}, weak = true)
+    @CachedResponse(firstPageOnly = true)
     public Result<PageResult<PostSimpleResponse>> getPublicPostPage(@Valid PostQueryRequest request){
         return Result.success(postService.getPublicPostPage(request));
     }
 
+    /**
+     * 全文搜索公开文章。
+     * 根据关键词在标题、摘要和正文中检索已发布的文章，按相关度排序并返回高亮片段。
+     *
+     * @param request 搜索请求参数，包含关键词及分页信息（页码和每页数量）。
+     * @return 包含搜索结果分页数据的结果对象 {@code Result<PageResult<PostSearchResponse>>}。
+     */
+    @GetMapping("/api/posts/search")
+    public Result<PageResult<PostSearchResponse>> searchPosts(@Valid PostSearchRequest request){
+        return Result.success(postService.searchPosts(request));
+    }
+
     /**
      * 获取文章归档列表。
      * 根据传入的查询条件，返回按年份和月份归档的文章数据，包括每月的文章数量及简单信息。
      *
      * @param request 查询文章的请求参数，包含关键词、标签筛选等条件（无分页参数）。
-     * @return 包含文章归档数据的结果对象 {@code Result<List<PostArchiveResponse>>}。
+     * @return 包含文章归档数据的结果对象，data 为预先序列化的 {@code List<PostArchiveResponse>}。
      */
     @GetMapping("/api/posts/archive")
-    public Result<List<PostArchiveResponse>> getArchivePosts(PostArchiveQueryRequest request){
+    public Result<RawValue> getArchivePosts(PostArchiveQueryRequest request){
         return Result.success(postService.getArchivePosts(request));
     }
 }
@@ -1,10 +1,13 @@
 package com.kmo.kome.controller;
 
+import com.kmo.kome.cache.ContentVersion.Domain;
 import com.kmo.kome.common.Result;
 import com.kmo.kome.dto.request.SetupRequest;
 import com.kmo.kome.dto.response.AdminSiteInfoResponse;
 import com.kmo.kome.dto.response.PublicSiteInfoResponse;
 import com.kmo.kome.service.*;
+import com.kmo.kome.web.CachedResponse;
+import com.kmo.kome.web.ConditionalGet;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -53,6 +56,8 @@ public class SiteController {
      * @return 包含站点信息的结果对象，包括所有者的昵称、头像、描述以及站点的统计数据。
      */
     @GetMapping("/api/site/info")
+    @ConditionalGet({Domain.USER, Domain.POST, Domain.TAG, Domain.MEMO, Domain.LINK})
+    @CachedResponse
     public Result<PublicSiteInfoResponse> getPublicSiteInfo(){
         return Result.success(siteService.getPublicSiteInfo());
     }
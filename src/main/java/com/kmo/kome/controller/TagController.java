@@ -1,5 +1,6 @@
 package com.kmo.kome.controller;
 
+import com.kmo.kome.cache.ContentVersion.Domain;
 import com.kmo.kome.common.PageResult;
 import com.kmo.kome.common.Result;
 import com.kmo.kome.dto.request.TagCreateRequest;
@@ -8,6 +9,8 @@ import com.kmo.kome.dto.request.TagUpdateRequest;
 import com.kmo.kome.dto.response.TagPostCountResponse;
 import com.kmo.kome.dto.response.TagResponse;
 import com.kmo.kome.service.TagService;
+import com.kmo.kome.web.CachedResponse;
+import com.kmo.kome.web.ConditionalGet;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
@@ -92,6 +95,8 @@ public class TagController {
      * @return 包含标签及其文章数量的结果对象列表。
      */
     @GetMapping("/api/tags")
+    @ConditionalGet({Domain.TAG, Domain.POST})
+    @CachedResponse
     public Result<List<TagPostCountResponse>> getPublicTagPage(){
         return Result.success(tagService.getPublicTagList());
     }
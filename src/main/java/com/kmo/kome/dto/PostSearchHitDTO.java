@@ -0,0 +1,23 @@
+package com.kmo.kome.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 文章搜索命中记录数据传输对象。
+ * 包含文章基本信息、用于生成摘要片段的正文以及相关度得分，仅在服务层内部使用。
+ */
+@Data
+public class PostSearchHitDTO {
+    private Long id;
+    private String title;
+    private String slug;
+    private String summary;
+    private String content;
+    private String coverImage;
+    private LocalDateTime createTime;
+
+    // 相关度得分，LIKE 回退模式下为 0
+    private Double score;
+}
@@ -0,0 +1,29 @@
+package com.kmo.kome.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 文章目录项 DTO
+ * 对应正文中的一个标题，按出现顺序排列
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TocItem {
+    /**
+     * 标题级别: 1~6，对应 h1~h6
+     */
+    private Integer level;
+
+    /**
+     * 标题锚点 ID，与渲染后 HTML 中标题元素的 id 属性一致
+     */
+    private String id;
+
+    /**
+     * 标题纯文本
+     */
+    private String text;
+}
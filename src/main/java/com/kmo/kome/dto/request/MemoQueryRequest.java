@@ -11,11 +11,14 @@ import lombok.EqualsAndHashCode;
 @Data
 @EqualsAndHashCode(callSuper = true)
 public class MemoQueryRequest extends BaseQueryRequest {
-    // 关键词筛选
+    // 关键词筛选：可以使用 ngram 全文索引时（不短于词元长度）按相关度排序，否则按 LIKE 匹配
     private String keyword;
     // 按状态筛选
     private Integer status;
 
     // 是否忽略置顶排序（仅管理员接口使用）
     private Boolean ignorePinned = false;
+
+    // 游标分页：上一页返回的 nextCursor（仅公开接口使用），非空时忽略 pageNum 且不查询总数；按相关度检索关键词时不支持
+    private String cursor;
 }
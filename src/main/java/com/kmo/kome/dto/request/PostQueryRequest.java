@@ -6,7 +6,7 @@ import lombok.EqualsAndHashCode;
 /**
  * 文章查询请求类。
  * 用于封装查询文章列表时的筛选条件。
- * 支持分页以及通过关键词、标签和状态过滤文章数据。
+ * 支持分页（页码或游标）以及通过关键词、标签和状态过滤文章数据。
  */
 @Data
 @EqualsAndHashCode(callSuper = true)
@@ -20,4 +20,7 @@ public class PostQueryRequest extends BaseQueryRequest {
 
     // 是否忽略置顶排序（仅管理员接口使用）
     private Boolean ignorePinned = false;
+
+    // 游标分页：上一页返回的 nextCursor（仅公开接口使用），非空时忽略 pageNum 且不查询总数
+    private String cursor;
 }
@@ -0,0 +1,19 @@
+package com.kmo.kome.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * 文章全文搜索请求类。
+ * 用于封装搜索已发布文章时的关键词及分页参数。
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class PostSearchRequest extends BaseQueryRequest {
+    // 搜索关键词，多个词以空格分隔
+    @NotBlank(message = "{validation.post.keyword.notBlank}")
+    @Size(max = 100, message = "{validation.post.keyword.size}")
+    private String keyword;
+}
@@ -0,0 +1,27 @@
+package com.kmo.kome.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 活动热力图响应 DTO 类。
+ * <p>
+ * 用于前端绘制类似 GitHub 贡献日历的热力图，包含 startDate 至 endDate（含）每天发布的 Memo 数与文章数。
+ * <p>
+ * 每日数量采用游程编码以减小响应体积：数组依次为 [数量, 连续天数, 数量, 连续天数, ...]，
+ * 例如 [0, 30, 2, 1, 0, 5] 表示前 30 天为 0，第 31 天为 2，之后 5 天为 0。
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityHeatmapResponse {
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private int[] memos;
+    private int[] posts;
+}
@@ -1,5 +1,6 @@
 package com.kmo.kome.dto.response;
 
+import com.kmo.kome.dto.TocItem;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -23,6 +24,22 @@ public class PostDetailResponse {
     private String slug;
     private String summary;
     private String content;
+
+    /**
+     * 渲染后的 HTML 内容，仅在 format=html 时返回（此时不返回 content）
+     */
+    private String contentHtml;
+
+    /**
+     * 基于标题生成的目录
+     */
+    private List<TocItem> toc;
+
+    /**
+     * 纯文本摘要
+     */
+    private String excerpt;
+
     private String coverImage;
     private Integer views;
     private Integer readTime;
@@ -0,0 +1,39 @@
+package com.kmo.kome.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 文章搜索结果响应 DTO 类。
+ * 在文章概要信息的基础上附带相关度得分与高亮片段。
+ * 高亮字段已做 HTML 转义，命中的关键词以 {@code <mark>} 标签包裹，可直接渲染。
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostSearchResponse {
+    private Long id;
+    private String title;
+    private String slug;
+    private String summary;
+    private String coverImage;
+
+    private LocalDateTime createTime;
+
+    private List<TagResponse> tags;
+
+    // 相关度得分，越大越相关
+    private Double score;
+
+    // 高亮后的标题（HTML）
+    private String highlightTitle;
+
+    // 正文中命中关键词附近的高亮片段（HTML）
+    private String highlightSnippet;
+}
@@ -23,6 +23,9 @@ public class Memo {
     /** 纯文本内容 */
     private String content;
 
+    /** 内容字数（按字符计数），创建、更新时写入 */
+    private Integer charLength;
+
     /** 是否置顶: 0=否, 1=是 */
     private Boolean isPinned;
 
@@ -1,9 +1,12 @@
 package com.kmo.kome.entity;
 
 import com.baomidou.mybatisplus.annotation.*;
+import com.baomidou.mybatisplus.extension.handlers.JacksonTypeHandler;
+import com.kmo.kome.dto.TocItem;
 import lombok.Data;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 博客文章实体类
@@ -11,7 +14,7 @@ import java.time.LocalDateTime;
  * 用于存储和管理博客文章的相关信息
  */
 @Data
-@TableName("post")
+@TableName(value = "post", autoResultMap = true)
 public class Post {
     /** 主键 ID */
     @TableId(type = IdType.AUTO)
@@ -30,6 +33,16 @@ public class Post {
     /** Markdown 原始内容 */
     private String content;
 
+    /** 渲染后的 HTML 内容 (保存文章时生成) */
+    private String contentHtml;
+
+    /** 目录 JSON 数组 (保存文章时生成) */
+    @TableField(typeHandler = JacksonTypeHandler.class)
+    private List<TocItem> toc;
+
+    /** 纯文本摘要 (保存文章时生成) */
+    private String excerpt;
+
     /** 封面图 URL (可为空) */
     @TableField(updateStrategy = FieldStrategy.ALWAYS)
     private String coverImage;
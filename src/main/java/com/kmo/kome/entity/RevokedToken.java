@@ -0,0 +1,33 @@
+package com.kmo.kome.entity;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 已吊销 Token 实体类
+ * 对应数据库表: revoked_token
+ * 用于记录主动注销、尚未过期的 JWT
+ */
+@Data
+@TableName("revoked_token")
+public class RevokedToken {
+    /** 主键ID */
+    @TableId(type = IdType.AUTO)
+    private Long id;
+
+    /** Token 的 SHA-256 摘要 (Base64, 无填充)，不保存 Token 原文 */
+    private String tokenHash;
+
+    /** Token 所属用户ID */
+    private Long userId;
+
+    /** Token 过期时间 */
+    private LocalDateTime expiresAt;
+
+    /** 吊销时间 */
+    private LocalDateTime createTime;
+}
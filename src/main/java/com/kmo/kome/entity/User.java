@@ -50,6 +50,9 @@ public class User {
     @TableField(updateStrategy = FieldStrategy.ALWAYS, typeHandler = JacksonTypeHandler.class)
     private List<SkillItem> skills;
 
+    /** 早于该时间签发的 Token 均失效 (修改密码时更新, 可为空) */
+    private LocalDateTime tokenValidAfter;
+
     /** 是否为站点所有者: 0=否, 1=是 */
     private Boolean isOwner;
 
@@ -0,0 +1,14 @@
+package com.kmo.kome.event;
+
+import com.kmo.kome.entity.Memo;
+
+/**
+ * Memo变更事件。
+ * <p>
+ * 由 MemoServiceImpl 在创建、更新、删除 Memo时发布，监听方在事务提交后据此刷新内存缓存和内容版本。
+ *
+ * @param before 变更前的Memo快照，新建时为 null
+ * @param after  变更后的Memo快照，删除时为 null
+ */
+public record MemoChangedEvent(Memo before, Memo after) {
+}
@@ -0,0 +1,14 @@
+package com.kmo.kome.event;
+
+import com.kmo.kome.entity.Post;
+
+/**
+ * 文章变更事件。
+ * <p>
+ * 由 PostServiceImpl 在创建、更新、删除文章时发布，监听方在事务提交后据此刷新内存缓存和索引。
+ *
+ * @param before 变更前的文章快照，新建文章时为 null
+ * @param after  变更后的文章快照，删除文章时为 null
+ */
+public record PostChangedEvent(Post before, Post after) {
+}
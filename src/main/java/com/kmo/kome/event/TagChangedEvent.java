@@ -0,0 +1,14 @@
+package com.kmo.kome.event;
+
+import com.kmo.kome.entity.Tag;
+
+/**
+ * 标签变更事件。
+ * <p>
+ * 由 TagServiceImpl 在创建、重命名、删除标签时发布，监听方在事务提交后据此刷新内存缓存。
+ *
+ * @param before 变更前的标签快照，新建标签时为 null
+ * @param after  变更后的标签快照，删除标签时为 null
+ */
+public record TagChangedEvent(Tag before, Tag after) {
+}
@@ -0,0 +1,14 @@
+package com.kmo.kome.event;
+
+import com.kmo.kome.entity.User;
+
+/**
+ * 用户变更事件。
+ * <p>
+ * 由 UserServiceImpl 在创建站点所有者、更新资料或密码时发布，监听方在事务提交后据此刷新内存缓存和内容版本。
+ *
+ * @param before 变更前的用户快照，新建时为 null
+ * @param after  变更后的用户快照，删除时为 null
+ */
+public record UserChangedEvent(User before, User after) {
+}
@@ -1,9 +1,11 @@
 package com.kmo.kome.mapper;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
-import com.kmo.kome.dto.response.MemoStatsResponse;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.kmo.kome.dto.request.MemoQueryRequest;
 import com.kmo.kome.entity.Memo;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 /**
  *  Memo 数据访问层接口
@@ -11,10 +13,14 @@ import org.apache.ibatis.annotations.Mapper;
  */
 @Mapper
 public interface MemoMapper extends BaseMapper<Memo> {
+
     /**
-     * 查询动态（Memo）的统计数据，汇总总数量、总字数、本月新增数量以及最新发布时间等信息。
+     * 使用 ngram 全文索引按关键词检索 Memo，按相关度降序排列。
      *
-     * @return 包含动态统计信息的 {@code MemoStatsResponse} 对象
+     * @param page 分页参数，包含当前页码和每页数量。
+     * @param query 查询条件，使用其中的状态筛选。
+     * @param phrase BOOLEAN MODE 短语检索表达式（已用双引号包裹的关键词）。
+     * @return Memo 分页结果。
      */
-    MemoStatsResponse selectMemoStats();
+    Page<Memo> selectMemoSearch(Page<Memo> page, @Param("query") MemoQueryRequest query, @Param("phrase") String phrase);
 }
@@ -2,12 +2,18 @@ package com.kmo.kome.mapper;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.kmo.kome.common.PageCursor;
+import com.kmo.kome.dto.PostSearchHitDTO;
+import com.kmo.kome.dto.TocItem;
 import com.kmo.kome.dto.request.PostQueryRequest;
 import com.kmo.kome.dto.response.PostSimpleResponse;
 import com.kmo.kome.entity.Post;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * 博客文章数据访问层接口
  * 继承自 BaseMapper<Post>，提供对 post 表的基础 CRUD 功能。
@@ -22,4 +28,52 @@ public interface PostMapper extends BaseMapper<Post> {
      * @return 包含文章概要信息的分页结果。
      */
     Page<PostSimpleResponse> selectPostPage(Page<PostSimpleResponse> page, @Param("query")PostQueryRequest query);
+
+    /**
+     * 游标分页查询文章列表，返回排序位置位于游标之后的文章，不查询总数。
+     *
+     * @param query 查询条件，与 {@link #selectPostPage} 相同。
+     * @param cursor 上一页最后一条记录的排序键。
+     * @param limit 最多返回的记录数。
+     * @return 文章概要信息列表。
+     */
+    List<PostSimpleResponse> selectPostSeek(@Param("query") PostQueryRequest query,
+                                            @Param("cursor") PageCursor cursor,
+                                            @Param("limit") int limit);
+
+    /**
+     * 搜索已发布文章，按相关度降序排列。
+     *
+     * @param page 分页参数，包含当前页码和每页数量。
+     * @param keyword 搜索关键词。
+     * @param fulltext 是否使用全文索引；为 false 时回退为标题、摘要的模糊匹配。
+     * @return 包含正文与相关度得分的命中记录分页结果。
+     */
+    Page<PostSearchHitDTO> selectPostSearch(Page<PostSearchHitDTO> page,
+                                            @Param("keyword") String keyword,
+                                            @Param("fulltext") boolean fulltext);
+
+    /**
+     * 批量累加文章浏览量，单条 UPDATE 语句完成所有文章的写回。
+     * 不会触发 update_time 的自动更新。
+     *
+     * @param deltas 文章 ID 到浏览量增量的映射，不能为空。
+     * @return 受影响的行数。
+     */
+    int incrementViews(@Param("deltas") Map<Long, Long> deltas);
+
+    /**
+     * 写入文章的预渲染内容（HTML、目录与摘要）。
+     * 不会触发 update_time 的自动更新。
+     *
+     * @param id 文章 ID。
+     * @param contentHtml 渲染后的 HTML。
+     * @param toc 目录项列表，以 JSON 数组存储。
+     * @param excerpt 纯文本摘要。
+     * @return 受影响的行数。
+     */
+    int updateRenderedContent(@Param("id") Long id,
+                              @Param("contentHtml") String contentHtml,
+                              @Param("toc") List<TocItem> toc,
+                              @Param("excerpt") String excerpt);
 }
@@ -0,0 +1,13 @@
+package com.kmo.kome.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.kmo.kome.entity.RevokedToken;
+import org.apache.ibatis.annotations.Mapper;
+
+/**
+ * 已吊销 Token 数据访问层
+ * 继承 BaseMapper 即可获得基础 CRUD 能力
+ */
+@Mapper
+public interface RevokedTokenMapper extends BaseMapper<RevokedToken> {
+}
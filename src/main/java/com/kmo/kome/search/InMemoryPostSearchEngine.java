@@ -0,0 +1,663 @@
+package com.kmo.kome.search;
+
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import com.kmo.kome.common.PageResult;
+import com.kmo.kome.dto.response.PostSearchResponse;
+import com.kmo.kome.dto.response.TagResponse;
+import com.kmo.kome.entity.Post;
+import com.kmo.kome.entity.PostTag;
+import com.kmo.kome.entity.Tag;
+import com.kmo.kome.event.PostChangedEvent;
+import com.kmo.kome.event.TagChangedEvent;
+import com.kmo.kome.mapper.PostMapper;
+import com.kmo.kome.mapper.PostTagMapper;
+import com.kmo.kome.mapper.TagMapper;
+import com.kmo.kome.utils.SearchHighlighter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 基于进程内倒排索引的文章搜索引擎（{@code kome.search.engine=memory}）。
+ * <p>
+ * 对已发布文章的标题、摘要和正文建立倒排索引（分词规则见 {@link SearchTokenizer}），
+ * 倒排列表以 VarInt 压缩后存放在原始字节数组中（见 {@link PostingList}）。
+ * 查询对所有词元求交集并按 BM25 打分（标题词频加权），全程不访问数据库。
+ * <p>
+ * 启动时从 {@link PostMapper} 全量构建；文章写入后根据 {@link PostChangedEvent} 增量更新：
+ * 旧文档标记删除，新内容以新的文档编号追加，删除文档过多时在内存中重新压实。
+ * 配置 {@code kome.search.index-file} 后，停机时将索引写入快照文件，下次启动通过内存映射读取，
+ * 快照与数据库指纹（已发布文章数、ID 之和、最大修改时间）不一致时放弃快照重新构建。
+ * 从快照加载时倒排列表与片段文本不复制到堆内，直接引用映射区域，堆内只保留词元表与文章的标题、摘要等短字段。
+ * <p>
+ * 索引不保存文章正文，只保存去除 Markdown 标记后的纯文本（UTF-8 编码）用于生成高亮片段，
+ * 仅在结果页中的文章需要生成片段时才解码。
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "kome.search", name = "engine", havingValue = "memory")
+public class InMemoryPostSearchEngine implements PostSearchEngine {
+
+    private static final int SNAPSHOT_MAGIC = 0x4B4F4D45; // "KOME"
+    private static final int SNAPSHOT_VERSION = 2;
+
+    // 标题词频权重
+    private static final int TITLE_WEIGHT = 3;
+    // BM25 参数
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final PostMapper postMapper;
+    private final PostTagMapper postTagMapper;
+    private final TagMapper tagMapper;
+    private final SearchHighlighter searchHighlighter;
+    private final SearchMetrics searchMetrics;
+    private final Path indexFile;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 以下索引结构由 lock 保护
+    private final List<IndexedPost> docs = new ArrayList<>();
+    private final BitSet deleted = new BitSet();
+    private final Map<Long, Integer> docOfPost = new HashMap<>();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private long liveLength;
+
+    // 标签信息不参与检索，单独维护
+    private final Map<Long, long[]> tagIdsByPost = new ConcurrentHashMap<>();
+    private final Map<Long, String> tagNames = new ConcurrentHashMap<>();
+
+    public InMemoryPostSearchEngine(PostMapper postMapper,
+                                    PostTagMapper postTagMapper,
+                                    TagMapper tagMapper,
+                                    SearchHighlighter searchHighlighter,
+                                    SearchMetrics searchMetrics,
+                                    @Value("${kome.search.index-file:}") String indexFile) {
+        this.postMapper = postMapper;
+        this.postTagMapper = postTagMapper;
+        this.tagMapper = tagMapper;
+        this.searchHighlighter = searchHighlighter;
+        this.searchMetrics = searchMetrics;
+        this.indexFile = StringUtils.hasText(indexFile) ? Path.of(indexFile) : null;
+    }
+
+    /**
+     * 启动时加载索引：优先使用指纹一致的快照文件，否则从数据库全量构建。
+     */
+    @PostConstruct
+    public void load() {
+        long start = System.nanoTime();
+        tagMapper.selectList(Wrappers.<Tag>lambdaQuery().select(Tag::getId, Tag::getName))
+                .forEach(tag -> tagNames.put(tag.getId(), tag.getName()));
+        postTagMapper.selectList(Wrappers.<PostTag>lambdaQuery().select(PostTag::getPostId, PostTag::getTagId))
+                .stream()
+                .collect(Collectors.groupingBy(PostTag::getPostId,
+                        Collectors.mapping(PostTag::getTagId, Collectors.toList())))
+                .forEach((postId, tagIds) -> tagIdsByPost.put(postId, sortedIds(tagIds)));
+
+        boolean fromSnapshot = indexFile != null && loadSnapshot(queryFingerprint());
+        if (!fromSnapshot) {
+            List<Post> posts = postMapper.selectList(Wrappers.<Post>lambdaQuery()
+                    .select(Post::getId, Post::getTitle, Post::getSlug, Post::getSummary, Post::getContent,
+                            Post::getCoverImage, Post::getCreateTime)
+                    .eq(Post::getStatus, 1)
+                    .orderByAsc(Post::getId));
+            lock.writeLock().lock();
+            try {
+                posts.forEach(post -> addDocument(post));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info("Post search index {} in {} ms: {} documents, {} terms",
+                fromSnapshot ? "loaded from snapshot" : "built from database",
+                (System.nanoTime() - start) / 1_000_000, docOfPost.size(), postings.size());
+    }
+
+    /**
+     * 停机时写入快照文件（未配置快照文件时跳过）。
+     */
+    @PreDestroy
+    public void saveOnShutdown() {
+        if (indexFile != null) {
+            saveSnapshot(queryFingerprint());
+        }
+    }
+
+    @Override
+    public PageResult<PostSearchResponse> search(String keyword, int pageNum, int pageSize) {
+        return searchMetrics.timer(SearchMetrics.MODE_MEMORY).record(() -> doSearch(keyword, pageNum, pageSize));
+    }
+
+    /**
+     * 文章变更后增量更新索引。
+     *
+     * @param event 文章变更事件
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        Post after = event.after();
+        boolean published = after != null && after.getStatus() != null && after.getStatus() == 1;
+        if (published) {
+            List<Long> tagIds = postTagMapper.selectList(Wrappers.<PostTag>lambdaQuery()
+                            .select(PostTag::getTagId)
+                            .eq(PostTag::getPostId, after.getId()))
+                    .stream()
+                    .map(PostTag::getTagId)
+                    .toList();
+            tagIdsByPost.put(after.getId(), sortedIds(tagIds));
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (event.before() != null) {
+                removeDocument(event.before().getId());
+            }
+            if (after != null) {
+                removeDocument(after.getId());
+                if (published) {
+                    addDocument(after);
+                }
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (!published && event.before() != null) {
+            tagIdsByPost.remove(event.before().getId());
+        }
+    }
+
+    /**
+     * 标签变更后更新标签名称。
+     *
+     * @param event 标签变更事件
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTagChanged(TagChangedEvent event) {
+        if (event.after() != null) {
+            tagNames.put(event.after().getId(), event.after().getName());
+        } else if (event.before() != null) {
+            tagNames.remove(event.before().getId());
+        }
+    }
+
+    private PageResult<PostSearchResponse> doSearch(String keyword, int pageNum, int pageSize) {
+        Set<String> terms = new LinkedHashSet<>();
+        SearchTokenizer.tokenize(keyword, true, terms::add);
+
+        List<ScoredPost> hits = new ArrayList<>();
+        if (!terms.isEmpty()) {
+            lock.readLock().lock();
+            try {
+                collectHits(terms, hits);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+        hits.sort(ScoredPost.ORDER);
+
+        long offset = (long) (pageNum - 1) * pageSize;
+        List<String> highlightTerms = searchHighlighter.extractTerms(keyword);
+        List<PostSearchResponse> records = hits.stream()
+                .skip(offset)
+                .limit(pageSize)
+                .map(hit -> toResponse(hit, highlightTerms))
+                .toList();
+
+        return PageResult.<PostSearchResponse>builder()
+                .records(records)
+                .total((long) hits.size())
+                .size((long) pageSize)
+                .current((long) pageNum)
+                .build();
+    }
+
+    /**
+     * 对所有查询词元的倒排列表求交集并计算 BM25 得分。调用方需持有读锁。
+     */
+    private void collectHits(Set<String> terms, List<ScoredPost> hits) {
+        List<PostingList> lists = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            PostingList list = postings.get(term);
+            if (list == null) {
+                return;
+            }
+            lists.add(list);
+        }
+        // 从最短的列表开始求交集
+        lists.sort(Comparator.comparingInt(PostingList::docFreq));
+
+        int liveDocs = docOfPost.size();
+        double avgLength = liveDocs == 0 ? 1 : Math.max(1, (double) liveLength / liveDocs);
+
+        int[] candidates = null;
+        double[] scores = null;
+        int count = 0;
+        for (PostingList list : lists) {
+            int[] docIds = new int[list.docFreq()];
+            int[] tfs = new int[list.docFreq()];
+            list.decode(docIds, tfs);
+            double idf = Math.log(1 + (liveDocs - list.docFreq() + 0.5) / (list.docFreq() + 0.5));
+
+            if (candidates == null) {
+                candidates = new int[docIds.length];
+                scores = new double[docIds.length];
+                for (int i = 0; i < docIds.length; i++) {
+                    if (!deleted.get(docIds[i])) {
+                        candidates[count] = docIds[i];
+                        scores[count] = bm25(idf, tfs[i], docs.get(docIds[i]).length(), avgLength);
+                        count++;
+                    }
+                }
+            } else {
+                // 有序归并求交集，结果原地写回
+                int kept = 0;
+                int j = 0;
+                for (int i = 0; i < count && j < docIds.length; ) {
+                    if (candidates[i] < docIds[j]) {
+                        i++;
+                    } else if (candidates[i] > docIds[j]) {
+                        j++;
+                    } else {
+                        candidates[kept] = candidates[i];
+                        scores[kept] = scores[i] + bm25(idf, tfs[j], docs.get(docIds[j]).length(), avgLength);
+                        kept++;
+                        i++;
+                        j++;
+                    }
+                }
+                count = kept;
+            }
+            if (count == 0) {
+                return;
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            hits.add(new ScoredPost(docs.get(candidates[i]), scores[i]));
+        }
+    }
+
+    private static double bm25(double idf, int tf, int length, double avgLength) {
+        return idf * tf * (K1 + 1) / (tf + K1 * (1 - B + B * length / avgLength));
+    }
+
+    private PostSearchResponse toResponse(ScoredPost hit, List<String> highlightTerms) {
+        IndexedPost post = hit.post();
+        String text = post.snippetText();
+        List<TagResponse> tags = new ArrayList<>();
+        for (long tagId : tagIdsByPost.getOrDefault(post.id(), new long[0])) {
+            tags.add(new TagResponse(tagId, tagNames.get(tagId)));
+        }
+        return PostSearchResponse.builder()
+                .id(post.id())
+                .title(post.title())
+                .slug(post.slug())
+                .summary(post.summary())
+                .coverImage(post.coverImage())
+                .createTime(post.createTime())
+                .tags(tags)
+                .score(hit.score())
+                .highlightTitle(searchHighlighter.highlight(post.title(), highlightTerms))
+                .highlightSnippet(searchHighlighter.snippet(
+                        StringUtils.hasText(text) ? text : post.summary(), highlightTerms))
+                .build();
+    }
+
+    /**
+     * 追加文档：对标题、摘要和正文分词，正文本身不保存。调用方需持有写锁。
+     */
+    private void addDocument(Post post) {
+        Map<String, Integer> termFreqs = new HashMap<>();
+        SearchTokenizer.tokenize(post.getTitle(), false, term -> termFreqs.merge(term, TITLE_WEIGHT, Integer::sum));
+        SearchTokenizer.tokenize(post.getSummary(), false, term -> termFreqs.merge(term, 1, Integer::sum));
+        SearchTokenizer.tokenize(post.getContent(), false, term -> termFreqs.merge(term, 1, Integer::sum));
+        int length = termFreqs.values().stream().mapToInt(Integer::intValue).sum();
+
+        IndexedPost indexed = IndexedPost.of(post, searchHighlighter.plainText(post.getContent()), length);
+        int doc = docs.size();
+        docs.add(indexed);
+        termFreqs.forEach((term, tf) -> postings.computeIfAbsent(term, key -> new PostingList()).add(doc, tf));
+        docOfPost.put(indexed.id(), doc);
+        liveLength += length;
+    }
+
+    /**
+     * 标记文档删除。调用方需持有写锁。
+     */
+    private void removeDocument(Long postId) {
+        if (postId == null) {
+            return;
+        }
+        Integer doc = docOfPost.remove(postId);
+        if (doc != null) {
+            deleted.set(doc);
+            liveLength -= docs.get(doc).length();
+        }
+    }
+
+    /**
+     * 已删除文档超过一半时重新编号并重建倒排列表（由现有倒排列表过滤得到，不重新分词，也不访问数据库）。调用方需持有写锁。
+     */
+    private void compactIfNeeded() {
+        int deletedCount = deleted.cardinality();
+        if (deletedCount < 64 || deletedCount * 2 < docs.size()) {
+            return;
+        }
+        compact();
+    }
+
+    private void compact() {
+        // 旧文档编号 → 新文档编号，已删除的文档为 -1；保持原有顺序，新编号仍然递增
+        int[] renumbered = new int[docs.size()];
+        List<IndexedPost> live = new ArrayList<>(docOfPost.size());
+        for (int doc = 0; doc < docs.size(); doc++) {
+            if (deleted.get(doc)) {
+                renumbered[doc] = -1;
+            } else {
+                renumbered[doc] = live.size();
+                live.add(docs.get(doc));
+            }
+        }
+
+        List<Map.Entry<String, PostingList>> rebuilt = new ArrayList<>();
+        for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+            PostingList list = entry.getValue();
+            int[] docIds = new int[list.docFreq()];
+            int[] tfs = new int[list.docFreq()];
+            list.decode(docIds, tfs);
+            PostingList compacted = new PostingList();
+            for (int i = 0; i < docIds.length; i++) {
+                if (renumbered[docIds[i]] >= 0) {
+                    compacted.add(renumbered[docIds[i]], tfs[i]);
+                }
+            }
+            if (compacted.docFreq() > 0) {
+                rebuilt.add(Map.entry(entry.getKey(), compacted));
+            }
+        }
+
+        docs.clear();
+        docs.addAll(live);
+        deleted.clear();
+        docOfPost.clear();
+        for (int doc = 0; doc < docs.size(); doc++) {
+            docOfPost.put(docs.get(doc).id(), doc);
+        }
+        postings.clear();
+        rebuilt.forEach(entry -> postings.put(entry.getKey(), entry.getValue()));
+    }
+
+    /**
+     * 查询数据库中已发布文章的指纹，用于校验快照是否过期。
+     */
+    private Fingerprint queryFingerprint() {
+        List<Map<String, Object>> rows = postMapper.selectMaps(new QueryWrapper<Post>()
+                .select("COUNT(*) AS post_count", "COALESCE(SUM(id), 0) AS id_sum", "MAX(update_time) AS max_update")
+                .eq("status", 1));
+        Map<String, Object> row = rows.isEmpty() || rows.get(0) == null ? Map.of() : rows.get(0);
+        Object maxUpdate = row.get("max_update");
+        long maxUpdateEpoch = maxUpdate instanceof LocalDateTime time ? time.toEpochSecond(ZoneOffset.UTC)
+                : maxUpdate instanceof Timestamp timestamp ? timestamp.toLocalDateTime().toEpochSecond(ZoneOffset.UTC)
+                : 0L;
+        return new Fingerprint(numberOf(row.get("post_count")), numberOf(row.get("id_sum")), maxUpdateEpoch);
+    }
+
+    private static long numberOf(Object value) {
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+
+    /**
+     * 通过内存映射读取快照文件。倒排列表与片段文本直接引用映射区域，关闭文件通道后映射仍然有效。
+     *
+     * @param expected 当前数据库指纹
+     * @return 快照有效并加载成功时返回 true
+     */
+    private boolean loadSnapshot(Fingerprint expected) {
+        if (!Files.isRegularFile(indexFile)) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != SNAPSHOT_MAGIC || buffer.getInt() != SNAPSHOT_VERSION) {
+                log.warn("Ignoring search index snapshot {}: unknown format", indexFile);
+                return false;
+            }
+            Fingerprint actual = new Fingerprint(buffer.getLong(), buffer.getLong(), buffer.getLong());
+            if (!actual.equals(expected)) {
+                log.info("Search index snapshot {} is stale, rebuilding", indexFile);
+                return false;
+            }
+
+            lock.writeLock().lock();
+            try {
+                int docCount = buffer.getInt();
+                for (int doc = 0; doc < docCount; doc++) {
+                    IndexedPost post = IndexedPost.readFrom(buffer);
+                    docs.add(post);
+                    docOfPost.put(post.id(), doc);
+                    liveLength += post.length();
+                }
+                int termCount = buffer.getInt();
+                for (int i = 0; i < termCount; i++) {
+                    postings.put(readString(buffer), PostingList.readFrom(buffer));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to load search index snapshot {}, rebuilding", indexFile, e);
+            lock.writeLock().lock();
+            try {
+                docs.clear();
+                docOfPost.clear();
+                postings.clear();
+                liveLength = 0;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 将索引写入快照文件：先写临时文件，再原子替换。
+     *
+     * @param fingerprint 当前数据库指纹
+     */
+    private void saveSnapshot(Fingerprint fingerprint) {
+        lock.writeLock().lock();
+        try {
+            if (!deleted.isEmpty()) {
+                compact();
+            }
+            Map<String, byte[]> termBytes = new HashMap<>(postings.size() * 2);
+            long size = 4 + 4 + 8 * 3 + 4 + 4;
+            for (IndexedPost post : docs) {
+                size += post.serializedSize();
+            }
+            for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+                byte[] bytes = entry.getKey().getBytes(StandardCharsets.UTF_8);
+                termBytes.put(entry.getKey(), bytes);
+                size += 4 + bytes.length + entry.getValue().serializedSize();
+            }
+
+            Path temp = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+            if (indexFile.getParent() != null) {
+                Files.createDirectories(indexFile.getParent());
+            }
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                buffer.putInt(SNAPSHOT_MAGIC).putInt(SNAPSHOT_VERSION)
+                        .putLong(fingerprint.count()).putLong(fingerprint.idSum()).putLong(fingerprint.maxUpdate());
+                buffer.putInt(docs.size());
+                for (IndexedPost post : docs) {
+                    post.writeTo(buffer);
+                }
+                buffer.putInt(postings.size());
+                for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+                    byte[] bytes = termBytes.get(entry.getKey());
+                    buffer.putInt(bytes.length).put(bytes);
+                    entry.getValue().writeTo(buffer);
+                }
+                buffer.force();
+            }
+            Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Search index snapshot written to {} ({} bytes)", indexFile, size);
+        } catch (IOException e) {
+            log.warn("Failed to write search index snapshot {}", indexFile, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static long[] sortedIds(List<Long> ids) {
+        return ids.stream().mapToLong(Long::longValue).sorted().toArray();
+    }
+
+    private static byte[] bytesOf(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int sizeOf(byte[] bytes) {
+        return 4 + (bytes == null ? 0 : bytes.length);
+    }
+
+    private static void writeBytes(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putInt(-1);
+        } else {
+            buffer.putInt(bytes.length).put(bytes);
+        }
+    }
+
+    private static void writeBytes(ByteBuffer buffer, ByteBuffer bytes) {
+        if (bytes == null) {
+            buffer.putInt(-1);
+        } else {
+            buffer.putInt(bytes.limit()).put(bytes.duplicate().clear());
+        }
+    }
+
+    /**
+     * 读取一段字节但不复制，返回引用缓冲区对应区域的切片，缓冲区位置移动到该段之后。
+     */
+    private static ByteBuffer sliceBytes(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        ByteBuffer slice = buffer.slice(buffer.position(), length);
+        buffer.position(buffer.position() + length);
+        return slice;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 数据库指纹。
+     *
+     * @param count     已发布文章数
+     * @param idSum     已发布文章 ID 之和
+     * @param maxUpdate 已发布文章的最大修改时间（epoch 秒）
+     */
+    private record Fingerprint(long count, long idSum, long maxUpdate) {
+    }
+
+    /**
+     * 带得分的命中文档。
+     */
+    private record ScoredPost(IndexedPost post, double score) {
+
+        static final Comparator<ScoredPost> ORDER = Comparator.comparingDouble(ScoredPost::score).reversed()
+                .thenComparing(hit -> hit.post().createTime(), Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(hit -> hit.post().id(), Comparator.reverseOrder());
+    }
+
+    /**
+     * 索引中保存的文章信息，用于生成搜索结果与高亮片段。
+     *
+     * @param text   去除 Markdown 标记后的正文纯文本（UTF-8），位于堆内或快照的映射区域，只读
+     * @param length 文档长度（加权词元数），用于 BM25 长度归一化
+     */
+    private record IndexedPost(long id, String title, String slug, String summary, ByteBuffer text,
+                               String coverImage, LocalDateTime createTime, int length) {
+
+        static IndexedPost of(Post post, String text, int length) {
+            ByteBuffer encoded = text == null ? null : ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+            return new IndexedPost(post.getId(), post.getTitle(), post.getSlug(), post.getSummary(),
+                    encoded, post.getCoverImage(), post.getCreateTime(), length);
+        }
+
+        /**
+         * 解码片段文本，仅在生成搜索结果时调用。
+         */
+        String snippetText() {
+            return text == null ? null : StandardCharsets.UTF_8.decode(text.duplicate().clear()).toString();
+        }
+
+        int serializedSize() {
+            return 8 + sizeOf(bytesOf(title)) + sizeOf(bytesOf(slug)) + sizeOf(bytesOf(summary))
+                    + 4 + (text == null ? 0 : text.limit()) + sizeOf(bytesOf(coverImage)) + 1 + 8 + 4;
+        }
+
+        void writeTo(ByteBuffer buffer) {
+            buffer.putLong(id);
+            writeBytes(buffer, bytesOf(title));
+            writeBytes(buffer, bytesOf(slug));
+            writeBytes(buffer, bytesOf(summary));
+            writeBytes(buffer, text);
+            writeBytes(buffer, bytesOf(coverImage));
+            buffer.put((byte) (createTime == null ? 0 : 1));
+            buffer.putLong(createTime == null ? 0L : createTime.toEpochSecond(ZoneOffset.UTC));
+            buffer.putInt(length);
+        }
+
+        static IndexedPost readFrom(ByteBuffer buffer) {
+            long id = buffer.getLong();
+            String title = readString(buffer);
+            String slug = readString(buffer);
+            String summary = readString(buffer);
+            ByteBuffer text = sliceBytes(buffer);
+            String coverImage = readString(buffer);
+            boolean hasCreateTime = buffer.get() == 1;
+            long epoch = buffer.getLong();
+            LocalDateTime createTime = hasCreateTime ? LocalDateTime.ofEpochSecond(epoch, 0, ZoneOffset.UTC) : null;
+            return new IndexedPost(id, title, slug, summary, text, coverImage, createTime, buffer.getInt());
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.kmo.kome.search;
+
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.kmo.kome.common.PageResult;
+import com.kmo.kome.dto.PostSearchHitDTO;
+import com.kmo.kome.dto.TagWhitPostIdDTO;
+import com.kmo.kome.dto.response.PostSearchResponse;
+import com.kmo.kome.dto.response.TagResponse;
+import com.kmo.kome.mapper.PostMapper;
+import com.kmo.kome.mapper.TagMapper;
+import com.kmo.kome.utils.SearchHighlighter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 基于 MySQL 全文索引的文章搜索引擎（默认实现）。
+ * <p>
+ * 关键词可以使用 ngram 全文索引时（见 {@link NgramFulltext}）使用 ft_idx_post_search 全文索引，
+ * 在标题、摘要和正文中检索并按相关度排序；短于词元长度的关键词回退为标题、摘要的模糊匹配。
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "kome.search", name = "engine", havingValue = "mysql", matchIfMissing = true)
+public class MySqlPostSearchEngine implements PostSearchEngine {
+
+    private final PostMapper postMapper;
+    private final TagMapper tagMapper;
+    private final SearchHighlighter searchHighlighter;
+    private final SearchMetrics searchMetrics;
+    private final NgramFulltext ngramFulltext;
+
+    @Override
+    public PageResult<PostSearchResponse> search(String keyword, int pageNum, int pageSize) {
+        boolean fulltext = ngramFulltext.supports(keyword);
+
+        Page<PostSearchHitDTO> hitPage = searchMetrics.timer(fulltext ? SearchMetrics.MODE_FULLTEXT : SearchMetrics.MODE_LIKE)
+                .record(() -> postMapper.selectPostSearch(new Page<>(pageNum, pageSize), keyword, fulltext));
+
+        List<PostSearchHitDTO> hits = hitPage.getRecords();
+        List<PostSearchResponse> records = Collections.emptyList();
+        if (!CollectionUtils.isEmpty(hits)) {
+            // 批量查询标签
+            Map<Long, List<TagResponse>> postTagsMap = tagMapper.findTagsByPostIds(
+                            hits.stream().map(PostSearchHitDTO::getId).toList())
+                    .stream()
+                    .collect(Collectors.groupingBy(
+                            TagWhitPostIdDTO::getPostId,
+                            Collectors.mapping(tagLink -> new TagResponse(tagLink.getTagId(), tagLink.getTagName()),
+                                    Collectors.toList())
+                    ));
+            List<String> terms = searchHighlighter.extractTerms(keyword);
+            records = hits.stream()
+                    .map(hit -> PostSearchResponse.builder()
+                            .id(hit.getId())
+                            .title(hit.getTitle())
+                            .slug(hit.getSlug())
+                            .summary(hit.getSummary())
+                            .coverImage(hit.getCoverImage())
+                            .createTime(hit.getCreateTime())
+                            .tags(postTagsMap.getOrDefault(hit.getId(), Collections.emptyList()))
+                            .score(hit.getScore())
+                            .highlightTitle(searchHighlighter.highlight(hit.getTitle(), terms))
+                            .highlightSnippet(searchHighlighter.snippet(
+                                    StringUtils.hasText(hit.getContent()) ? hit.getContent() : hit.getSummary(), terms))
+                            .build())
+                    .toList();
+        }
+
+        return PageResult.<PostSearchResponse>builder()
+                .records(records)
+                .total(hitPage.getTotal())
+                .size(hitPage.getSize())
+                .current(hitPage.getCurrent())
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.kmo.kome.search;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * MySQL ngram 全文索引的适用性判断。
+ * <p>
+ * 短于 ngram 词元长度的关键词无法被切分出任何词元，全文检索无法命中，应回退为 LIKE 匹配。
+ * 词元长度在启动时从 {@code @@ngram_token_size} 读取，读取失败时按 MySQL 默认值 2 处理。
+ * <p>
+ * 全文索引在关闭停用词的会话中创建（见 V2、V8 迁移脚本），英文关键词的词元不会被默认停用词表丢弃。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NgramFulltext {
+
+    // MySQL ngram_token_size 默认值
+    private static final int DEFAULT_TOKEN_SIZE = 2;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private int tokenSize = DEFAULT_TOKEN_SIZE;
+
+    /**
+     * 启动时读取数据库的 ngram 词元长度。
+     */
+    @PostConstruct
+    public void load() {
+        try {
+            Integer size = jdbcTemplate.queryForObject("SELECT @@ngram_token_size", Integer.class);
+            if (size != null && size > 0) {
+                tokenSize = size;
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read ngram_token_size, assuming {}: {}", DEFAULT_TOKEN_SIZE, e.getMessage());
+        }
+    }
+
+    /**
+     * 判断关键词能否使用 ngram 全文索引检索。
+     *
+     * @param keyword 查询关键词
+     * @return true 表示可以使用全文索引；false 表示应回退为 LIKE 匹配
+     */
+    public boolean supports(String keyword) {
+        return StringUtils.hasText(keyword) && keyword.codePointCount(0, keyword.length()) >= tokenSize;
+    }
+}
@@ -0,0 +1,27 @@
+package com.kmo.kome.search;
+
+import com.kmo.kome.common.PageResult;
+import com.kmo.kome.dto.response.PostSearchResponse;
+
+/**
+ * 文章搜索引擎接口。
+ * <p>
+ * 负责在已发布文章中按关键词检索，返回按相关度排序、带高亮片段的分页结果。
+ * 具体实现由配置项 {@code kome.search.engine} 选择：
+ * <ul>
+ *     <li>{@code mysql}（默认）：基于 MySQL ngram 全文索引，见 {@link MySqlPostSearchEngine}</li>
+ *     <li>{@code memory}：进程内倒排索引，查询不访问数据库，见 {@link InMemoryPostSearchEngine}</li>
+ * </ul>
+ */
+public interface PostSearchEngine {
+
+    /**
+     * 搜索已发布的文章。
+     *
+     * @param keyword  搜索关键词，已去除首尾空白，不为空
+     * @param pageNum  页码，从 1 开始
+     * @param pageSize 每页数量
+     * @return 包含搜索结果的分页数据
+     */
+    PageResult<PostSearchResponse> search(String keyword, int pageNum, int pageSize);
+}
@@ -0,0 +1,146 @@
+package com.kmo.kome.search;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 单个词元的倒排列表。
+ * <p>
+ * 按文档编号递增追加 (文档编号差值, 词频) 对，两者均以变长字节（VarInt）编码，
+ * 大多数差值和词频只占 1 个字节。只支持追加，删除由索引层的墓碑位图处理。
+ * <p>
+ * 数据存放在以下两处之一：
+ * <ul>
+ *     <li>堆内字节数组：运行期间新建的列表；</li>
+ *     <li>快照文件的内存映射区域：从快照加载的列表直接引用映射区域中的字节，不复制到堆内，
+ *         查询时按需由操作系统换入页面。首次追加时才复制为堆内数组（写时复制）。</li>
+ * </ul>
+ * 非线程安全，由 {@link InMemoryPostSearchEngine} 的读写锁保护。
+ */
+final class PostingList {
+
+    private byte[] data;
+    /** 快照中的只读映射区域，非 null 时数据以它为准 */
+    private ByteBuffer mapped;
+    private int size;
+    private int lastDoc = -1;
+    private int docFreq;
+
+    PostingList() {
+        this.data = new byte[8];
+    }
+
+    private PostingList(ByteBuffer mapped, int lastDoc, int docFreq) {
+        this.mapped = mapped;
+        this.size = mapped.limit();
+        this.lastDoc = lastDoc;
+        this.docFreq = docFreq;
+    }
+
+    /**
+     * 追加一篇文档。
+     *
+     * @param doc 文档编号，必须大于已追加的所有编号
+     * @param tf  词频
+     */
+    void add(int doc, int tf) {
+        if (doc <= lastDoc) {
+            throw new IllegalArgumentException("Documents must be added in increasing order");
+        }
+        if (mapped != null) {
+            // 写时复制：映射区域只读，首次追加时复制到堆内
+            data = new byte[size + 16];
+            mapped.get(0, data, 0, size);
+            mapped = null;
+        }
+        ensureCapacity(10);
+        writeVarInt(doc - lastDoc);
+        writeVarInt(tf);
+        lastDoc = doc;
+        docFreq++;
+    }
+
+    /**
+     * 包含该词元的文档数（含已删除文档）。
+     */
+    int docFreq() {
+        return docFreq;
+    }
+
+    /**
+     * 解码全部文档编号与词频。
+     *
+     * @param docs 长度至少为 {@link #docFreq()} 的数组，用于接收递增的文档编号
+     * @param tfs  长度至少为 {@link #docFreq()} 的数组，用于接收对应的词频
+     */
+    void decode(int[] docs, int[] tfs) {
+        ByteBuffer source = mapped;
+        int position = 0;
+        int doc = -1;
+        for (int i = 0; i < docFreq; i++) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = source != null ? source.get(position++) : data[position++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            int tf = 0;
+            shift = 0;
+            do {
+                b = source != null ? source.get(position++) : data[position++];
+                tf |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            doc += delta;
+            docs[i] = doc;
+            tfs[i] = tf;
+        }
+    }
+
+    /**
+     * 序列化后占用的字节数。
+     */
+    int serializedSize() {
+        return 12 + size;
+    }
+
+    /**
+     * 写入快照缓冲区：文档数、最后文档编号、数据长度、数据。
+     */
+    void writeTo(ByteBuffer buffer) {
+        buffer.putInt(docFreq).putInt(lastDoc).putInt(size);
+        if (mapped != null) {
+            buffer.put(mapped.duplicate().clear());
+        } else {
+            buffer.put(data, 0, size);
+        }
+    }
+
+    /**
+     * 从快照缓冲区读取：数据部分不复制，直接引用缓冲区中的对应区域，缓冲区位置移动到该列表之后。
+     */
+    static PostingList readFrom(ByteBuffer buffer) {
+        int docFreq = buffer.getInt();
+        int lastDoc = buffer.getInt();
+        int length = buffer.getInt();
+        ByteBuffer region = buffer.slice(buffer.position(), length);
+        buffer.position(buffer.position() + length);
+        return new PostingList(region, lastDoc, docFreq);
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, size + extra));
+        }
+    }
+
+    private void writeVarInt(int value) {
+        while ((value & ~0x7F) != 0) {
+            data[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[size++] = (byte) value;
+    }
+}
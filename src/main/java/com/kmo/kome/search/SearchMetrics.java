@@ -0,0 +1,37 @@
+package com.kmo.kome.search;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 文章搜索耗时指标。
+ * <p>
+ * 所有关键词检索路径共用 {@code kome.post.search} 计时器，按 mode 标签区分
+ * （like / fulltext / memory），并发布 p50 / p99 分位数便于对比。
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchMetrics {
+
+    public static final String MODE_LIKE = "like";
+    public static final String MODE_FULLTEXT = "fulltext";
+    public static final String MODE_MEMORY = "memory";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 获取指定检索方式的计时器。
+     *
+     * @param mode 检索方式
+     * @return 对应的计时器
+     */
+    public Timer timer(String mode) {
+        return Timer.builder("kome.post.search")
+                .description("Post keyword search latency")
+                .tag("mode", mode)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,93 @@
+package com.kmo.kome.search;
+
+import java.util.function.Consumer;
+
+/**
+ * 中英文混合文本分词器。
+ * <p>
+ * 拉丁文字、数字按单词切分并转为小写；中日韩文字按连续片段切分为二元组（bigram）。
+ * 索引时额外输出单字，以便支持单字查询；查询时仅在片段只有一个字时使用单字，
+ * 否则使用二元组，多个二元组同时命中近似于短语匹配。
+ */
+final class SearchTokenizer {
+
+    // 单词最大长度，超出部分截断，避免异常长串撑大词典
+    private static final int MAX_WORD_LENGTH = 64;
+
+    private SearchTokenizer() {
+    }
+
+    /**
+     * 对文本分词。
+     *
+     * @param text     待分词文本，可为 null
+     * @param forQuery 是否为查询分词
+     * @param consumer 词元接收者，同一词元可能被多次输出
+     */
+    static void tokenize(String text, boolean forQuery, Consumer<String> consumer) {
+        if (text == null) {
+            return;
+        }
+        StringBuilder word = new StringBuilder();
+        // 当前连续中日韩片段中的上一个字符，-1 表示不在片段内
+        int previousCjk = -1;
+        int cjkRunLength = 0;
+
+        int length = text.length();
+        for (int i = 0; i < length; ) {
+            int codePoint = text.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            if (isCjk(codePoint)) {
+                flushWord(word, consumer);
+                if (!forQuery) {
+                    consumer.accept(Character.toString(codePoint));
+                }
+                if (previousCjk >= 0) {
+                    consumer.accept(Character.toString(previousCjk) + Character.toString(codePoint));
+                }
+                previousCjk = codePoint;
+                cjkRunLength++;
+                continue;
+            }
+
+            endCjkRun(forQuery, previousCjk, cjkRunLength, consumer);
+            previousCjk = -1;
+            cjkRunLength = 0;
+
+            if (Character.isLetterOrDigit(codePoint)) {
+                if (word.length() < MAX_WORD_LENGTH) {
+                    word.appendCodePoint(Character.toLowerCase(codePoint));
+                }
+            } else {
+                flushWord(word, consumer);
+            }
+        }
+        endCjkRun(forQuery, previousCjk, cjkRunLength, consumer);
+        flushWord(word, consumer);
+    }
+
+    private static void endCjkRun(boolean forQuery, int previousCjk, int runLength, Consumer<String> consumer) {
+        // 查询中的单字片段没有二元组可用，直接以单字检索
+        if (forQuery && runLength == 1) {
+            consumer.accept(Character.toString(previousCjk));
+        }
+    }
+
+    private static void flushWord(StringBuilder word, Consumer<String> consumer) {
+        if (!word.isEmpty()) {
+            consumer.accept(word.toString());
+            word.setLength(0);
+        }
+    }
+
+    private static boolean isCjk(int codePoint) {
+        if (Character.isIdeographic(codePoint)) {
+            return true;
+        }
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA
+                || script == Character.UnicodeScript.HANGUL;
+    }
+}
@@ -21,7 +21,7 @@ import java.util.Collections;
  * JWT 认证过滤器
  * <p>
  * 拦截每个 HTTP 请求，检查 Header 中是否包含有效的 JWT Token。
- * 如果包含，则解析用户身份并存入 Spring Security 上下文。
+ * 如果包含且未被吊销（由 {@link TokenRevocationStore} 判断），则解析用户身份并存入 Spring Security 上下文。
  */
 @Component
 @RequiredArgsConstructor
@@ -29,6 +29,7 @@ import java.util.Collections;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtils jwtUtils;
+    private final TokenRevocationStore tokenRevocationStore;
 
     /**
      * 处理 HTTP 请求时的过滤逻辑，用于校验 JWT Token 的合法性。
@@ -52,9 +53,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (StringUtils.hasText(header) && header.startsWith("Bearer ")) {
             token = header.substring(7);
 
-            // 校验 Token 并解析 userId
+            // 校验 Token、检查是否已吊销并解析 userId
             try {
-                userId = jwtUtils.getUserIdFromToken(token);
+                JwtUtils.VerifiedToken verified = jwtUtils.verifyToken(token);
+                if (tokenRevocationStore.isRevoked(verified)) {
+                    log.warn("JWT token has been revoked: userId={}", verified.userId());
+                } else {
+                    userId = verified.userId();
+                }
             }catch (Exception e){
                 log.warn("JWT token is invalid: {}", e.getMessage());
             }
@@ -0,0 +1,114 @@
+package com.kmo.kome.security;
+
+import com.kmo.kome.common.ResultCode;
+import com.kmo.kome.common.exception.ServiceException;
+import com.kmo.kome.utils.MessageHelper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 登录凭据校验专用线程池。
+ * <p>
+ * BCrypt 密码比对是刻意设计的 CPU 密集操作，若在 Tomcat 工作线程上执行，集中的登录请求会占满工作线程，
+ * 拖慢公开接口。登录校验因此提交到固定大小、队列有界的独立线程池执行，请求线程在等待期间被释放（异步 Servlet）。
+ * 线程池与队列都已占满时立即以 429 拒绝，而不是继续排队。
+ * <p>
+ * 任务执行时沿用提交线程的语言环境，保证校验过程中生成的国际化消息与请求一致。
+ * <p>
+ * 暴露的指标：
+ * kome.auth.login.verify（校验耗时，按 outcome 区分成功与失败）、
+ * kome.auth.login.rejected（因饱和被拒绝的登录请求数）、
+ * executor.*（name=login，包括排队数 executor.queued 与活动线程数 executor.active）。
+ */
+@Slf4j
+@Component
+public class LoginExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final MessageHelper messageHelper;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejectedCounter;
+
+    public LoginExecutor(MessageHelper messageHelper,
+                         MeterRegistry meterRegistry,
+                         @Value("${kome.auth.login.threads}") int threads,
+                         @Value("${kome.auth.login.queue-capacity}") int queueCapacity) {
+        this.messageHelper = messageHelper;
+        this.meterRegistry = meterRegistry;
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "login-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        new ExecutorServiceMetrics(executor, "login", Tags.empty()).bindTo(meterRegistry);
+        this.rejectedCounter = Counter.builder("kome.auth.login.rejected")
+                .description("Login attempts rejected because the login executor was saturated")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 提交一次凭据校验。
+     *
+     * @param verification 校验逻辑，失败时应抛出异常
+     * @param <T>          校验结果类型
+     * @return 校验结果，校验逻辑抛出的异常会使其异常完成
+     * @throws ServiceException 线程池与队列都已占满时抛出，状态码 429
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> verification) {
+        LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+        try {
+            return CompletableFuture.supplyAsync(() -> verify(verification, localeContext), executor);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("Login executor saturated, rejecting login attempt");
+            throw new ServiceException(ResultCode.TOO_MANY_REQUESTS, messageHelper.get("error.auth.tooManyLoginAttempts"));
+        }
+    }
+
+    private <T> T verify(Supplier<T> verification, LocaleContext localeContext) {
+        LocaleContextHolder.setLocaleContext(localeContext);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            T result = verification.get();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(Timer.builder("kome.auth.login.verify")
+                    .description("Time spent verifying login credentials")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+            LocaleContextHolder.resetLocaleContext();
+        }
+    }
+
+    /**
+     * 应用关闭时停止接收新任务，并等待正在进行的校验完成。
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+}
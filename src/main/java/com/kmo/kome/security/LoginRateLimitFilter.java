@@ -0,0 +1,217 @@
+package com.kmo.kome.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kmo.kome.common.Result;
+import com.kmo.kome.common.ResultCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.MessageSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.LocaleResolver;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * 登录频率限制过滤器
+ * <p>
+ * 仅拦截 POST /api/auth/login，在请求进入 {@code AuthenticationManager}（查询用户 + BCrypt 比对）之前，
+ * 按客户端 IP 与请求体中的登录名通过 {@link LoginRateLimiter} 判断是否放行，超限时直接返回 429 与 Retry-After 头。
+ * <p>
+ * 为读取登录名，请求体（上限 16KB）会被完整读入内存并包装为可重复读取的请求，后续 Controller 照常解析。
+ * 客户端 IP 取 {@link HttpServletRequest#getRemoteAddr()}，部署在反向代理之后时依赖
+ * {@code server.forward-headers-strategy} 从 X-Forwarded-For 还原真实地址。
+ */
+@Slf4j
+@Component
+public class LoginRateLimitFilter extends OncePerRequestFilter {
+
+    // 与安全规则一致按解码后的路径匹配，避免 /api/auth/%6Cogin 之类的编码路径绕过限流
+    private static final RequestMatcher LOGIN_REQUEST =
+            PathPatternRequestMatcher.withDefaults().matcher(HttpMethod.POST, "/api/auth/login");
+    // 登录请求体的最大字节数，超出时直接返回 400，避免将超大请求体读入内存
+    private static final int MAX_BODY_BYTES = 16 * 1024;
+
+    private final LoginRateLimiter loginRateLimiter;
+    private final ObjectMapper objectMapper;
+    private final MessageSource messageSource;
+    private final LocaleResolver localeResolver;
+    private final Counter rejectedCounter;
+
+    public LoginRateLimitFilter(LoginRateLimiter loginRateLimiter,
+                                ObjectMapper objectMapper,
+                                MessageSource messageSource,
+                                LocaleResolver localeResolver,
+                                MeterRegistry meterRegistry) {
+        this.loginRateLimiter = loginRateLimiter;
+        this.objectMapper = objectMapper;
+        this.messageSource = messageSource;
+        this.localeResolver = localeResolver;
+        this.rejectedCounter = Counter.builder("kome.auth.login.rate-limited")
+                .description("Login attempts rejected by the per-IP / per-username rate limiter")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !LOGIN_REQUEST.matches(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        // 1. 缓存请求体并解析登录名
+        byte[] body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+        if (body.length > MAX_BODY_BYTES) {
+            writeError(request, response, ResultCode.BAD_REQUEST, "error.global.badRequestBody");
+            return;
+        }
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request, body);
+        String username = extractUsername(body);
+        String ip = request.getRemoteAddr();
+
+        // 2. 超限时直接拒绝，不进入认证流程
+        long retryAfterMillis = loginRateLimiter.tryAcquire(ip, username);
+        if (retryAfterMillis > 0) {
+            rejectedCounter.increment();
+            log.warn("Login rate limit exceeded: ip={}, username={}", ip, username);
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf((retryAfterMillis + 999) / 1000));
+            writeError(request, response, ResultCode.TOO_MANY_REQUESTS, "error.auth.tooManyLoginAttempts");
+            return;
+        }
+
+        // 3. 放行；登录成功（异步完成后状态码为 200）时清除该登录名的尝试记录
+        filterChain.doFilter(cachedRequest, response);
+        if (cachedRequest.isAsyncStarted()) {
+            cachedRequest.getAsyncContext().addListener(new AsyncListener() {
+                @Override
+                public void onComplete(AsyncEvent event) {
+                    if (response.getStatus() == HttpServletResponse.SC_OK) {
+                        loginRateLimiter.onSuccess(username);
+                    }
+                }
+
+                @Override
+                public void onTimeout(AsyncEvent event) {
+                }
+
+                @Override
+                public void onError(AsyncEvent event) {
+                }
+
+                @Override
+                public void onStartAsync(AsyncEvent event) {
+                }
+            });
+        } else if (response.getStatus() == HttpServletResponse.SC_OK) {
+            loginRateLimiter.onSuccess(username);
+        }
+    }
+
+    /**
+     * 从 JSON 请求体中提取登录名，去除首尾空白并转为小写，解析失败时返回 null。
+     */
+    private String extractUsername(byte[] body) {
+        try {
+            JsonNode username = objectMapper.readTree(body).get("username");
+            if (username == null || !username.isTextual() || !StringUtils.hasText(username.asText())) {
+                return null;
+            }
+            return username.asText().trim().toLowerCase(Locale.ROOT);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response,
+                            ResultCode resultCode, String messageKey) throws IOException {
+        response.setContentType("application/json;charset=UTF-8");
+        response.setStatus(resultCode.getHttpStatus().value());
+
+        String message = messageSource.getMessage(messageKey, null, localeResolver.resolveLocale(request));
+        Result<Object> result = Result.fail(resultCode, message);
+        response.getWriter().write(objectMapper.writeValueAsString(result));
+    }
+
+    /**
+     * 请求体已完整读入内存、可重复读取的请求包装。
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new IllegalStateException("Non-blocking read is not supported for the cached login request body");
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.kmo.kome.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 登录频率限制器。
+ * <p>
+ * 分别以客户端 IP 和登录名（用户名或邮箱）为 key 记录登录尝试，采用滑动窗口日志：
+ * 每个 key 保存最近 N 次尝试的时间戳（N 为该维度的上限），第 N+1 次尝试时若最早一次仍在窗口内即视为超限。
+ * 超限后封禁一段时间，首次封禁时长等于窗口长度，之后每次超限翻倍，最长不超过 {@code max-backoff}。
+ * 登录成功时清除对应登录名的记录。
+ * <p>
+ * 两个维度的记录都保存在固定容量的 Caffeine 缓存中（W-TinyLFU 淘汰），大量不同 IP 或登录名的尝试
+ * 不会使内存无限增长；空闲超过最长封禁时长的记录自动过期，封禁次数随之清零。
+ * 记录数量与淘汰次数通过 /actuator/metrics/cache.* 指标（cache=loginRateLimit.ip / loginRateLimit.username）暴露。
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final int ipMaxAttempts;
+    private final int usernameMaxAttempts;
+    private final long windowMillis;
+    private final long maxBackoffMillis;
+
+    private final Cache<String, AttemptLog> ipAttempts;
+    private final Cache<String, AttemptLog> usernameAttempts;
+
+    public LoginRateLimiter(MeterRegistry meterRegistry,
+                            @Value("${kome.auth.rate-limit.ip-max-attempts}") int ipMaxAttempts,
+                            @Value("${kome.auth.rate-limit.username-max-attempts}") int usernameMaxAttempts,
+                            @Value("${kome.auth.rate-limit.window}") long windowMillis,
+                            @Value("${kome.auth.rate-limit.max-backoff}") long maxBackoffMillis,
+                            @Value("${kome.auth.rate-limit.max-keys}") long maxKeys) {
+        this.ipMaxAttempts = ipMaxAttempts;
+        this.usernameMaxAttempts = usernameMaxAttempts;
+        this.windowMillis = windowMillis;
+        this.maxBackoffMillis = Math.max(maxBackoffMillis, windowMillis);
+        this.ipAttempts = newCache(maxKeys);
+        this.usernameAttempts = newCache(maxKeys);
+        CaffeineCacheMetrics.monitor(meterRegistry, ipAttempts, "loginRateLimit.ip");
+        CaffeineCacheMetrics.monitor(meterRegistry, usernameAttempts, "loginRateLimit.username");
+    }
+
+    /**
+     * 登记一次登录尝试并判断是否放行。
+     * 任一维度处于封禁期或本次尝试使其超限时拒绝；被拒绝的尝试不计入另一维度。
+     *
+     * @param ip       客户端 IP
+     * @param username 登录名（已规范化），无法解析时为 null，仅按 IP 限制
+     * @return 需要等待的时长（毫秒），0 表示放行
+     */
+    public long tryAcquire(String ip, String username) {
+        long now = System.currentTimeMillis();
+        AttemptLog ipLog = ipAttempts.get(ip, key -> new AttemptLog(ipMaxAttempts));
+        long retryAfter = ipLog.record(now, windowMillis, maxBackoffMillis);
+        if (retryAfter > 0 || username == null) {
+            return retryAfter;
+        }
+        AttemptLog usernameLog = usernameAttempts.get(username, key -> new AttemptLog(usernameMaxAttempts));
+        return usernameLog.record(now, windowMillis, maxBackoffMillis);
+    }
+
+    /**
+     * 登录成功后清除该登录名的尝试记录与封禁次数。
+     *
+     * @param username 登录名（已规范化）
+     */
+    public void onSuccess(String username) {
+        if (username != null) {
+            usernameAttempts.invalidate(username);
+        }
+    }
+
+    private Cache<String, AttemptLog> newCache(long maxKeys) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofMillis(maxBackoffMillis))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 单个 key 的尝试记录。
+     * timestamps 为环形缓冲区，保存最近 limit 次被放行的尝试时间。
+     */
+    private static final class AttemptLog {
+        private final long[] timestamps;
+        private int next;
+        private long blockedUntil;
+        private int violations;
+
+        private AttemptLog(int limit) {
+            this.timestamps = new long[Math.max(limit, 1)];
+        }
+
+        private synchronized long record(long now, long windowMillis, long maxBackoffMillis) {
+            if (now < blockedUntil) {
+                return blockedUntil - now;
+            }
+            // 环形缓冲区中最早的一次尝试仍在窗口内，说明窗口内已有 limit 次尝试
+            long oldest = timestamps[next];
+            if (oldest != 0 && now - oldest < windowMillis) {
+                long backoff = windowMillis << Math.min(violations, 30);
+                violations++;
+                blockedUntil = now + Math.min(backoff, maxBackoffMillis);
+                return blockedUntil - now;
+            }
+            timestamps[next] = now;
+            next = (next + 1) % timestamps.length;
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.kmo.kome.security;
+
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import com.kmo.kome.cache.BloomFilter;
+import com.kmo.kome.entity.RevokedToken;
+import com.kmo.kome.entity.User;
+import com.kmo.kome.event.UserChangedEvent;
+import com.kmo.kome.mapper.RevokedTokenMapper;
+import com.kmo.kome.mapper.UserMapper;
+import com.kmo.kome.utils.JwtUtils;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JWT 吊销存储。
+ * <p>
+ * 支持两种吊销方式，均持久化到数据库，并在内存中保存一份镜像，校验时不访问数据库：
+ * 1. 单个 Token 吊销（注销登录）：保存在 revoked_token 表，内存中为摘要的精确集合，前置一个 {@link BloomFilter}。
+ *    未被吊销的 Token（绝大多数请求）只需一次 Bloom 过滤器探测即可放行，只有过滤器命中时才查询精确集合。
+ * 2. 用户级吊销（修改密码）：user.token_valid_after，签发时间早于该时间的 Token 全部失效。
+ * <p>
+ * 已过期 Token 的吊销记录没有意义，由定时任务按 {@code kome.auth.revocation.purge-interval} 间隔删除，
+ * 并据剩余记录重建 Bloom 过滤器（过滤器不支持删除）。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationStore {
+
+    // Bloom 过滤器的目标误判率与最小容量
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int MIN_BLOOM_CAPACITY = 1024;
+
+    private final RevokedTokenMapper revokedTokenMapper;
+    private final UserMapper userMapper;
+
+    /** 已吊销 Token 的摘要 */
+    private final Set<String> revokedIds = ConcurrentHashMap.newKeySet();
+    /** 用户 ID → 吊销时间点（毫秒时间戳） */
+    private final Map<Long, Long> validAfterByUser = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter bloomFilter = new BloomFilter(MIN_BLOOM_CAPACITY, FALSE_POSITIVE_RATE);
+    private volatile long bloomCapacity = MIN_BLOOM_CAPACITY;
+
+    /**
+     * 启动时加载未过期的吊销记录与各用户的吊销时间点。
+     */
+    @PostConstruct
+    public synchronized void load() {
+        List<RevokedToken> tokens = revokedTokenMapper.selectList(Wrappers.<RevokedToken>lambdaQuery()
+                .select(RevokedToken::getTokenHash)
+                .gt(RevokedToken::getExpiresAt, LocalDateTime.now()));
+        revokedIds.clear();
+        tokens.forEach(token -> revokedIds.add(token.getTokenHash()));
+        rebuildBloomFilter();
+
+        validAfterByUser.clear();
+        userMapper.selectList(Wrappers.<User>lambdaQuery()
+                        .select(User::getId, User::getTokenValidAfter)
+                        .isNotNull(User::getTokenValidAfter))
+                .forEach(user -> validAfterByUser.put(user.getId(), toEpochMillis(user.getTokenValidAfter())));
+        log.info("Token revocation store loaded, {} revoked token(s), {} user cutoff(s)",
+                revokedIds.size(), validAfterByUser.size());
+    }
+
+    /**
+     * 判断 Token 是否已被吊销。
+     *
+     * @param token 验签通过的 Token 信息
+     * @return true 表示已吊销
+     */
+    public boolean isRevoked(JwtUtils.VerifiedToken token) {
+        Long validAfter = validAfterByUser.get(token.userId());
+        if (validAfter != null && token.issuedAt() < validAfter) {
+            return true;
+        }
+        return bloomFilter.mightContain(token.id()) && revokedIds.contains(token.id());
+    }
+
+    /**
+     * 吊销单个 Token，立即生效。
+     *
+     * @param token 验签通过的 Token 信息
+     */
+    public void revoke(JwtUtils.VerifiedToken token) {
+        RevokedToken revokedToken = new RevokedToken();
+        revokedToken.setTokenHash(token.id());
+        revokedToken.setUserId(token.userId());
+        revokedToken.setExpiresAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(token.expiresAt()), ZoneId.systemDefault()));
+        try {
+            revokedTokenMapper.insert(revokedToken);
+        } catch (DuplicateKeyException e) {
+            // 重复注销同一个 Token
+        }
+        synchronized (this) {
+            // 先加入过滤器再加入集合，保证并发读取时不会漏判
+            bloomFilter.put(token.id());
+            revokedIds.add(token.id());
+            if (revokedIds.size() > bloomCapacity) {
+                rebuildBloomFilter();
+            }
+        }
+    }
+
+    /**
+     * 用户变更后同步其吊销时间点（修改密码时更新）。
+     *
+     * @param event 用户变更事件
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        User after = event.after();
+        if (after != null && after.getTokenValidAfter() != null) {
+            validAfterByUser.put(after.getId(), toEpochMillis(after.getTokenValidAfter()));
+        }
+    }
+
+    /**
+     * 删除已过期 Token 的吊销记录，并重建内存镜像。
+     */
+    @Scheduled(initialDelayString = "${kome.auth.revocation.purge-interval:3600000}",
+            fixedDelayString = "${kome.auth.revocation.purge-interval:3600000}")
+    public void purgeExpired() {
+        try {
+            int deleted = revokedTokenMapper.delete(Wrappers.<RevokedToken>lambdaQuery()
+                    .le(RevokedToken::getExpiresAt, LocalDateTime.now()));
+            if (deleted > 0) {
+                List<RevokedToken> remaining = revokedTokenMapper.selectList(Wrappers.<RevokedToken>lambdaQuery()
+                        .select(RevokedToken::getTokenHash));
+                synchronized (this) {
+                    revokedIds.retainAll(remaining.stream().map(RevokedToken::getTokenHash).toList());
+                    rebuildBloomFilter();
+                }
+                log.info("Purged {} expired revoked token(s)", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to purge expired revoked tokens: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 按当前集合大小的两倍（不少于最小容量）重建 Bloom 过滤器。
+     */
+    private void rebuildBloomFilter() {
+        long capacity = Math.max(MIN_BLOOM_CAPACITY, revokedIds.size() * 2L);
+        BloomFilter rebuilt = new BloomFilter(capacity, FALSE_POSITIVE_RATE);
+        revokedIds.forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+        bloomCapacity = capacity;
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -1,51 +1,65 @@
 package com.kmo.kome.security;
 
-import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.kmo.kome.entity.User;
-import com.kmo.kome.service.UserService;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.ApplicationContext;
+import com.kmo.kome.event.UserChangedEvent;
+import com.kmo.kome.mapper.UserMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Spring Security 用户详情加载服务
  * <p>
  * 实现 UserDetailsService 接口，用于在认证过程中从数据库查找用户信息。
+ * <p>
+ * 直接使用 {@link UserMapper} 查询（不依赖 UserService，因此无需再通过 ApplicationContext 懒加载来打破循环依赖），
+ * 并以登录名（用户名或邮箱）为 key 缓存查到的用户。用户资料或密码变更后，
+ * 在事务提交后通过 {@link UserChangedEvent} 清空缓存。不存在的登录名不做缓存，避免被随机登录名占满。
+ * 查询期间发生失效（例如修改密码）时丢弃查询结果，不写入缓存，避免旧密码哈希被重新缓存。
+ * 命中、未命中、淘汰次数通过 /actuator/metrics/cache.* 指标（cache=userDetails）暴露。
  */
 @Service
 public class UserDetailsServiceImpl implements UserDetailsService {
 
-    private UserService userService;
-
-    @Autowired
-    private ApplicationContext applicationContext;
+    // 缓存的登录名数量上限，站点通常只有一个所有者账户
+    private static final int CACHE_MAX_SIZE = 64;
 
-    @Autowired
-    private MessageSource messageSource;
+    private final UserMapper userMapper;
+    private final MessageSource messageSource;
+    private final Cache<String, User> usersByLoginName;
 
+    /** 失效代数，查询期间发生失效时丢弃查询结果，避免缓存旧数据 */
+    private final AtomicLong generation = new AtomicLong();
 
-    /**
-     * 获取 UserService 实例。
-     * 如果未初始化 UserService，则从 Spring 容器中获取并赋值给本地变量。
-     * 懒加载方法，打破循环依赖
-     *
-     * @return UserService 实例，用于执行用户相关的业务逻辑。
-     */
-    private UserService getUserService() {
-        if (userService == null) {
-            userService = applicationContext.getBean(UserService.class);
-        }
-        return userService;
+    public UserDetailsServiceImpl(UserMapper userMapper, MessageSource messageSource, MeterRegistry meterRegistry) {
+        this.userMapper = userMapper;
+        this.messageSource = messageSource;
+        this.usersByLoginName = Caffeine.newBuilder()
+                .maximumSize(CACHE_MAX_SIZE)
+                .expireAfterWrite(Duration.ofHours(1))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, usersByLoginName, "userDetails");
     }
 
     /**
      * 根据用户名或邮箱加载用户的详细信息，用于 Spring Security 认证过程中查询用户数据。
      * 如果指定的用户名或邮箱不存在，则抛出 UsernameNotFoundException 异常。
+     * <p>
+     * 缓存未命中时先按用户名、再按邮箱分别查询，两次查询都能命中各自的唯一索引（uk_username、uk_email），
+     * 不使用 {@code username = ? OR email = ?}。
      *
      * @param username 用户名或邮箱，用于标识用户的唯一登录凭证。
      * @return 包含用户详细信息的 CustomUserDetails 对象。
@@ -53,11 +67,19 @@ public class UserDetailsServiceImpl implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        // 1. 查询数据库（改用懒加载），支持用户名或邮箱登录
-        User user = getUserService().getOne(new LambdaQueryWrapper<User>()
-                .eq(User::getUsername, username)
-                .or()
-                .eq(User::getEmail, username));
+        // 1. 优先读取缓存，未命中时查询数据库，支持用户名或邮箱登录
+        User user = usersByLoginName.getIfPresent(username);
+        if (user == null) {
+            long loadingGeneration = generation.get();
+            user = findByLoginName(username);
+            if (user != null) {
+                synchronized (this) {
+                    if (generation.get() == loadingGeneration) {
+                        usersByLoginName.put(username, user);
+                    }
+                }
+            }
+        }
 
         // 2. 检查用户是否存在
         if (user == null) {
@@ -70,4 +92,23 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         // 3. 转换自定义的 CustomUserDetails 对象
         return new CustomUserDetails(user);
     }
+
+    /**
+     * 用户资料或密码变更后清空缓存（用户名、邮箱、密码哈希都可能已变化）。
+     *
+     * @param event 用户变更事件
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onUserChanged(UserChangedEvent event) {
+        generation.incrementAndGet();
+        usersByLoginName.invalidateAll();
+    }
+
+    private User findByLoginName(String loginName) {
+        User user = userMapper.selectOne(Wrappers.<User>lambdaQuery().eq(User::getUsername, loginName));
+        if (user != null) {
+            return user;
+        }
+        return userMapper.selectOne(Wrappers.<User>lambdaQuery().eq(User::getEmail, loginName));
+    }
 }
@@ -4,6 +4,8 @@ import com.kmo.kome.dto.request.AuthLoginRequest;
 import com.kmo.kome.dto.response.AuthInfoResponse;
 import com.kmo.kome.dto.response.AuthLoginResponse;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 认证业务接口。
  * 负责登录会话创建与当前认证信息获取。
@@ -12,11 +14,19 @@ public interface AuthService {
 
     /**
      * 用户登录并创建 JWT 会话。
+     * 凭据校验在独立线程池中异步执行。
      *
      * @param request 登录请求参数。
-     * @return 登录响应，包含 token 与当前认证信息。
+     * @return 登录响应的 future，包含 token 与当前认证信息。
+     */
+    CompletableFuture<AuthLoginResponse> login(AuthLoginRequest request);
+
+    /**
+     * 注销登录，吊销当前使用的 Token。
+     *
+     * @param token 当前请求携带的 JWT Token（不含 Bearer 前缀）。
      */
-    AuthLoginResponse login(AuthLoginRequest request);
+    void logout(String token);
 
     /**
      * 获取当前认证信息。
@@ -6,6 +6,7 @@ import com.kmo.kome.common.exception.ServiceException;
 import com.kmo.kome.dto.request.MemoCreateRequest;
 import com.kmo.kome.dto.request.MemoQueryRequest;
 import com.kmo.kome.dto.request.MemoUpdateRequest;
+import com.kmo.kome.dto.response.ActivityHeatmapResponse;
 import com.kmo.kome.dto.response.MemoResponse;
 import com.kmo.kome.dto.response.MemoStatsResponse;
 import com.kmo.kome.entity.Memo;
@@ -88,4 +89,12 @@ public interface MemoService extends IService<Memo> {
      * @return 往年今日的 Memo 列表。
      */
     List<MemoResponse> getMemosOnThisDay();
+
+    /**
+     * 获取最近若干年每天发布的 Memo 数与文章数，用于前端绘制活动热力图。
+     *
+     * @param years 年数，为空或无效时默认为 1。
+     * @return 游程编码后的每日数量。
+     */
+    ActivityHeatmapResponse getActivityHeatmap(Integer years);
 }
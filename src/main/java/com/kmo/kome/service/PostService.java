@@ -1,20 +1,20 @@
 package com.kmo.kome.service;
 
 import com.baomidou.mybatisplus.extension.service.IService;
+import com.fasterxml.jackson.databind.util.RawValue;
 import com.kmo.kome.common.PageResult;
 import com.kmo.kome.common.exception.ServiceException;
 import com.kmo.kome.dto.request.PostArchiveQueryRequest;
 import com.kmo.kome.dto.request.PostCreateRequest;
 import com.kmo.kome.dto.request.PostQueryRequest;
+import com.kmo.kome.dto.request.PostSearchRequest;
 import com.kmo.kome.dto.request.PostUpdateRequest;
-import com.kmo.kome.dto.response.PostArchiveResponse;
 import com.kmo.kome.dto.response.PostDetailResponse;
+import com.kmo.kome.dto.response.PostSearchResponse;
 import com.kmo.kome.dto.response.PostSimpleResponse;
 import com.kmo.kome.entity.Post;
 import jakarta.validation.Valid;
 
-import java.util.List;
-
 /**
  * 博客文章业务接口
  * <p>
@@ -66,10 +66,26 @@ public interface PostService extends IService<Post> {
      * 根据文章别名（Slug）获取文章详情（公开接口，增加阅读量）。
      *
      * @param slug 文章的别名，用于唯一定位文章记录。
+     * @param html 是否以预渲染的 HTML 返回正文（contentHtml），否则返回 Markdown 原文（content）。
      * @return 包含文章详细信息的响应对象。
      * @throws ServiceException 如果文章不存在或未发布。
      */
-    PostDetailResponse getPostBySlug(String slug);
+    PostDetailResponse getPostBySlug(String slug, boolean html);
+
+    /**
+     * 记录一次公开文章阅读（阅读量 +1）。
+     *
+     * @param postId 文章的唯一标识符。
+     */
+    void recordPostView(Long postId);
+
+    /**
+     * 根据别名记录一次公开文章阅读（阅读量 +1），不访问数据库。
+     * 用于条件请求命中（304）时仍然计入阅读量。
+     *
+     * @param slug 文章别名，不存在或未发布时忽略。
+     */
+    void recordPostViewBySlug(String slug);
 
     /**
      * 获取后台管理文章分页列表。
@@ -94,8 +110,16 @@ public interface PostService extends IService<Post> {
      * 按年份和月份对已发布的文章进行分组归档。
      *
      * @param request 归档查询请求对象，包含关键词、标签等过滤条件。
-     * @return 按年份和月份分组的文章归档列表。
+     * @return 按年份和月份分组的文章归档列表（{@code List<PostArchiveResponse>}）序列化后的 JSON 原始值。
      */
-    List<PostArchiveResponse> getArchivePosts(PostArchiveQueryRequest request);
-}
+    RawValue getArchivePosts(PostArchiveQueryRequest request);
 
+    /**
+     * 全文搜索已发布的文章。
+     * 按相关度排序，并为每条结果生成标题与正文片段的高亮内容。
+     *
+     * @param request 搜索请求对象，包含关键词和分页参数。
+     * @return 包含搜索结果的分页数据。
+     */
+    PageResult<PostSearchResponse> searchPosts(@Valid PostSearchRequest request);
+}
@@ -7,6 +7,8 @@ import com.kmo.kome.dto.response.AuthInfoResponse;
 import com.kmo.kome.dto.response.AuthLoginResponse;
 import com.kmo.kome.entity.User;
 import com.kmo.kome.security.CustomUserDetails;
+import com.kmo.kome.security.LoginExecutor;
+import com.kmo.kome.security.TokenRevocationStore;
 import com.kmo.kome.service.AuthService;
 import com.kmo.kome.service.UserService;
 import com.kmo.kome.utils.JwtUtils;
@@ -18,12 +20,15 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 认证业务实现类。
  * <p>
  * 实现了 {@link AuthService} 接口，提供用户登录认证与当前认证信息获取功能。
  * 依赖 Spring Security 的 {@link AuthenticationManager} 进行凭据验证，
  * 并使用 {@link JwtUtils} 生成 JWT 令牌。
+ * 登录校验（BCrypt 密码比对）在 {@link LoginExecutor} 的独立线程池中执行，不占用请求线程。
  */
 @Service
 @RequiredArgsConstructor
@@ -34,6 +39,8 @@ public class AuthServiceImpl implements AuthService {
 
     private final AuthenticationManager authenticationManager;
     private final JwtUtils jwtUtils;
+    private final LoginExecutor loginExecutor;
+    private final TokenRevocationStore tokenRevocationStore;
     private final UserService userService;
     private final MessageHelper messageHelper;
 
@@ -50,14 +57,26 @@ public class AuthServiceImpl implements AuthService {
      * 3. 基于用户 ID 生成 JWT 令牌，并计算过期时间戳。
      * 4. 返回包含令牌和当前认证信息的响应对象。
      * <p>
+     * 以上流程提交到 {@link LoginExecutor} 异步执行。
      * 如果用户名或密码错误，{@link AuthenticationManager} 会抛出
-     * {@code BadCredentialsException}，由 Spring Security 异常处理机制统一处理。
+     * {@code BadCredentialsException}，返回的 future 以该异常完成，由全局异常处理器统一处理。
      *
      * @param request 登录请求参数，包含用户名和密码。
-     * @return 登录响应，包含 accessToken、tokenType、expiresAt 和当前认证信息。
+     * @return 登录响应的 future，包含 accessToken、tokenType、expiresAt 和当前认证信息。
+     * @throws ServiceException 登录校验线程池已饱和时抛出，状态码 429。
      */
     @Override
-    public AuthLoginResponse login(AuthLoginRequest request) {
+    public CompletableFuture<AuthLoginResponse> login(AuthLoginRequest request) {
+        return loginExecutor.submit(() -> authenticate(request));
+    }
+
+    /**
+     * 校验凭据并生成登录响应，在登录校验线程池中执行。
+     *
+     * @param request 登录请求参数，包含用户名和密码。
+     * @return 登录响应。
+     */
+    private AuthLoginResponse authenticate(AuthLoginRequest request) {
         // 委托 Spring Security 进行凭据验证（该方法会调用 UserDetailsServiceImpl 加载用户，并使用 PasswordEncoder 比对密码, 失败时自动抛出 AuthenticationException）
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword())
@@ -77,6 +96,24 @@ public class AuthServiceImpl implements AuthService {
                 .build();
     }
 
+    /**
+     * 注销登录。
+     * 将当前 Token 加入吊销列表，此后携带该 Token 的请求不再通过认证，其他会话不受影响。
+     *
+     * @param token 当前请求携带的 JWT Token（不含 Bearer 前缀）。
+     * @throws ServiceException 当 Token 无效或已过期时抛出未授权异常。
+     */
+    @Override
+    public void logout(String token) {
+        JwtUtils.VerifiedToken verified;
+        try {
+            verified = jwtUtils.verifyToken(token);
+        } catch (Exception e) {
+            throw new ServiceException(ResultCode.UNAUTHORIZED, messageHelper.get("error.auth.sessionExpired"));
+        }
+        tokenRevocationStore.revoke(verified);
+    }
+
     /**
      * 获取当前认证信息。
      * 根据用户 ID 查询用户实体，并转换为认证信息响应对象。
@@ -12,12 +12,15 @@ import com.kmo.kome.dto.request.LinkQueryRequest;
 import com.kmo.kome.dto.request.LinkUpdateRequest;
 import com.kmo.kome.dto.response.LinkResponse;
 import com.kmo.kome.entity.Link;
+import com.kmo.kome.event.LinkChangedEvent;
 import com.kmo.kome.mapper.LinkMapper;
 import com.kmo.kome.service.LinkService;
 import com.kmo.kome.utils.MessageHelper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.BeanUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.util.List;
@@ -33,6 +36,7 @@ import java.util.List;
 public class LinkServiceImpl extends ServiceImpl<LinkMapper, Link> implements LinkService {
 
     private final MessageHelper messageHelper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 创建新友链并保存到数据库中。
@@ -42,10 +46,14 @@ public class LinkServiceImpl extends ServiceImpl<LinkMapper, Link> implements Li
      * @return 返回新创建的友链的主键 ID。
      */
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public Long createLink(LinkCreateRequest request) {
         Link link = new Link();
         BeanUtils.copyProperties(request, link);
         save(link);
+
+        // 发布变更事件，事务提交后刷新缓存
+        eventPublisher.publishEvent(new LinkChangedEvent(null, getById(link.getId())));
         return link.getId();
     }
 
@@ -59,6 +67,7 @@ public class LinkServiceImpl extends ServiceImpl<LinkMapper, Link> implements Li
      * @return 返回 null，表示更新操作没有返回具体值。
      */
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public Void updateLinkById(Long id, LinkUpdateRequest request) {
         Link link = getById(id);
         if(link == null){
@@ -68,6 +77,9 @@ public class LinkServiceImpl extends ServiceImpl<LinkMapper, Link> implements Li
         BeanUtils.copyProperties(request, updateLink);
         updateLink.setId(id);
         updateById(updateLink);
+
+        // 发布变更事件，事务提交后刷新缓存
+        eventPublisher.publishEvent(new LinkChangedEvent(link, getById(id)));
         return null;
     }
 
@@ -79,12 +91,16 @@ public class LinkServiceImpl extends ServiceImpl<LinkMapper, Link> implements Li
      * @return 返回 null，表示删除操作没有返回具体值。
      */
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public Void deleteLinkById(Long id) {
         Link link = getById(id);
         if(link == null){
             throw new ServiceException(ResultCode.NOT_FOUND, messageHelper.get("error.link.notFound"));
         }
         removeById(id);
+
+        // 发布变更事件，事务提交后刷新缓存
+        eventPublisher.publishEvent(new LinkChangedEvent(link, null));
         return null;
     }
 
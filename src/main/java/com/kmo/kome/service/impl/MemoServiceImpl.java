@@ -3,23 +3,33 @@ package com.kmo.kome.service.impl;
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import com.kmo.kome.cache.ActivityHeatmap;
+import com.kmo.kome.cache.MemoOnThisDayCache;
+import com.kmo.kome.cache.MemoStatistics;
+import com.kmo.kome.common.PageCursor;
 import com.kmo.kome.common.PageResult;
 import com.kmo.kome.common.ResultCode;
 import com.kmo.kome.common.exception.ServiceException;
 import com.kmo.kome.dto.request.MemoCreateRequest;
 import com.kmo.kome.dto.request.MemoQueryRequest;
 import com.kmo.kome.dto.request.MemoUpdateRequest;
+import com.kmo.kome.dto.response.ActivityHeatmapResponse;
 import com.kmo.kome.dto.response.MemoResponse;
 import com.kmo.kome.dto.response.MemoStatsResponse;
 import com.kmo.kome.entity.Memo;
+import com.kmo.kome.event.MemoChangedEvent;
 import com.kmo.kome.mapper.MemoMapper;
+import com.kmo.kome.search.NgramFulltext;
 import com.kmo.kome.service.MemoService;
 import com.kmo.kome.utils.MessageHelper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.BeanUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.time.DateTimeException;
 import java.util.List;
 
 /**
@@ -33,6 +43,11 @@ import java.util.List;
 public class MemoServiceImpl extends ServiceImpl<MemoMapper, Memo> implements MemoService {
 
     private final MessageHelper messageHelper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MemoOnThisDayCache memoOnThisDayCache;
+    private final MemoStatistics memoStatistics;
+    private final NgramFulltext ngramFulltext;
+    private final ActivityHeatmap activityHeatmap;
 
     /**
      * 创建一条新的 Memo 记录。
@@ -42,10 +57,15 @@ public class MemoServiceImpl extends ServiceImpl<MemoMapper, Memo> implements Me
      * @return 返回值固定为 null。
      */
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public Long createMemo(MemoCreateRequest request) {
         Memo memo = new Memo();
         BeanUtils.copyProperties(request, memo);
+        memo.setCharLength(countChars(request.getContent()));
         save(memo);
+
+        // 发布变更事件，事务提交后刷新缓存
+        eventPublisher.publishEvent(new MemoChangedEvent(null, getById(memo.getId())));
         return memo.getId();
     }
 
@@ -60,6 +80,7 @@ public class MemoServiceImpl extends ServiceImpl<MemoMapper, Memo> implements Me
      * @throws ServiceException 当指定的 Memo 记录不存在时，抛出此异常
      */
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public Void updateMemoById(Long id, MemoUpdateRequest request) {
         Memo memo = getById(id);
         if(memo == null){
@@ -67,8 +88,12 @@ public class MemoServiceImpl extends ServiceImpl<MemoMapper, Memo> implements Me
         }
         Memo updateMemo = new Memo();
         BeanUtils.copyProperties(request, updateMemo);
+        updateMemo.setCharLength(countChars(request.getContent()));
         updateMemo.setId(id);
         updateById(updateMemo);
+
+        // 发布变更事件，事务提交后刷新缓存
+        eventPublisher.publishEvent(new MemoChangedEvent(memo, getById(id)));
         return null;
     }
 
@@ -82,12 +107,16 @@ public class MemoServiceImpl extends ServiceImpl<MemoMapper, Memo> implements Me
      * @throws ServiceException 当指定的 Memo 记录不存在时抛出此异常
      */
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public Void deleteMemoById(Long id) {
         Memo memo = getById(id);
         if(memo == null){
             throw new ServiceException(ResultCode.NOT_FOUND, messageHelper.get("error.memo.notFound"));
         }
         removeById(id);
+
+        // 发布变更事件，事务提交后刷新缓存
+        eventPublisher.publishEvent(new MemoChangedEvent(memo, null));
         return null;
     }
 
@@ -124,9 +153,10 @@ public class MemoServiceImpl extends ServiceImpl<MemoMapper, Memo> implements Me
      * 获取公开的 Memo 分页列表。
      * 此方法用于查询已发布的 Memo 记录，并按照置顶优先的规则进行排序。
      * 默认查询条件会将状态设置为已发布，并禁止忽略置顶排序。
-     * 内部调用后台分页查询方法执行实际查询。
+     * 携带游标时使用 Keyset 分页，否则内部调用后台分页查询方法执行实际查询，并在存在下一页时返回游标。
+     * 关键词走全文检索时结果按相关度排序，只支持页码分页，忽略游标。
      *
-     * @param request 包含分页查询参数的对象，必须提供页码和每页数量，可选提供关键词进行筛选。
+     * @param request 包含分页查询参数的对象，必须提供页码（或游标）和每页数量，可选提供关键词进行筛选。
      * @return 包含查询结果的分页对象，记录列表为 MemoResponse 类型。
      */
     @Override
@@ -135,13 +165,27 @@ public class MemoServiceImpl extends ServiceImpl<MemoMapper, Memo> implements Me
         request.setStatus(1);
         // 公开接口始终按置顶优先排序
         request.setIgnorePinned(false);
-        return getAdminMemoPage(request);
+
+        boolean ranked = toFulltextPhrase(request.getKeyword()) != null;
+        if (!ranked && StringUtils.hasText(request.getCursor())) {
+            return getMemoPageByCursor(request);
+        }
+
+        PageResult<MemoResponse> result = getAdminMemoPage(request);
+        // 首页仍返回总数，同时给出游标，后续翻页可切换到游标模式
+        List<MemoResponse> records = result.getRecords();
+        if (!ranked && !records.isEmpty() && result.getCurrent() * result.getSize() < result.getTotal()) {
+            result.setNextCursor(toCursor(records.get(records.size() - 1)));
+        }
+        return result;
     }
 
     /**
      * 获取管理员 Memo 分页列表。
      * 此方法支持按照关键字和状态筛选 Memo 数据，并根据指定分页参数返回结果。
      * 如果参数未指定是否忽略置顶排序，则默认包含置顶逻辑。
+     * 关键词可以使用 ngram 全文索引时（不短于词元长度，见 {@link NgramFulltext}）
+     * 使用 ft_idx_memo_content 全文索引检索，按相关度排序；其他关键词回退为 LIKE 匹配。
      *
      * @param request 包含分页查询条件的请求对象，其中包括页码、每页数量、关键字、状态以及是否忽略置顶排序的选项。
      * @return 返回包含分页结果的 PageResult 对象，其中记录列表为 MemoResponse 类型。
@@ -151,19 +195,11 @@ public class MemoServiceImpl extends ServiceImpl<MemoMapper, Memo> implements Me
         // 构建分页对象
         Page<Memo> page = new Page<>(request.getPageNum(), request.getPageSize());
 
-        // 构建查询条件
-        LambdaQueryWrapper<Memo> wrapper = new LambdaQueryWrapper<>();
-        wrapper.like(StringUtils.hasText(request.getKeyword()), Memo::getContent, request.getKeyword()) // 关键字搜索 (content LIKE '%keyword%')
-                .eq(request.getStatus() != null, Memo::getStatus, request.getStatus()); // 状态筛选 (如果前端传了 status 就查特定的，没传就查所有)
-
-        // 排序逻辑：ignorePinned 为 true 时跳过置顶排序
-        if (!Boolean.TRUE.equals(request.getIgnorePinned())) {
-            wrapper.orderByDesc(Memo::getIsPinned);
-        }
-        wrapper.orderByDesc(Memo::getCreateTime);
-
-        // 查询数据库
-        Page<Memo> memoPage = page(page, wrapper);
+        // 查询数据库：可用全文索引的关键词按相关度检索，否则按置顶、创建时间排序
+        String phrase = toFulltextPhrase(request.getKeyword());
+        Page<Memo> memoPage = phrase != null
+                ? baseMapper.selectMemoSearch(page, request, phrase)
+                : page(page, buildPageQuery(request));
 
         // 转换记录列表 (List<Memo> -> List<MemoResponse>)
         List<MemoResponse> responseList = memoPage.getRecords().stream()
@@ -179,6 +215,91 @@ public class MemoServiceImpl extends ServiceImpl<MemoMapper, Memo> implements Me
                 .build();
     }
 
+    /**
+     * 使用 Keyset 分页查询 Memo 列表。
+     * 排序键 (is_pinned, create_time, id) 严格位于游标之后，直接在 idx_status_pinned_createtime 索引上定位起点，
+     * 耗时不随翻页深度增长；多查询一条记录用于判断是否存在下一页，不执行 COUNT 查询。
+     *
+     * @param request 查询请求对象，cursor 不能为空。
+     * @return 分页结果，total 与 current 为 null，存在下一页时 nextCursor 不为 null。
+     * @throws ServiceException 如果游标格式不合法，抛出 {@code ResultCode.BAD_REQUEST} 异常。
+     */
+    private PageResult<MemoResponse> getMemoPageByCursor(MemoQueryRequest request) {
+        PageCursor cursor;
+        try {
+            cursor = PageCursor.decode(request.getCursor());
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new ServiceException(ResultCode.BAD_REQUEST, messageHelper.get("error.global.invalidCursor"));
+        }
+
+        int pageSize = request.getPageSize();
+        LambdaQueryWrapper<Memo> wrapper = buildPageQuery(request);
+        wrapper.and(w -> w.lt(Memo::getIsPinned, cursor.pinned())
+                        .or(o -> o.eq(Memo::getIsPinned, cursor.pinned())
+                                .lt(Memo::getCreateTime, cursor.createTime()))
+                        .or(o -> o.eq(Memo::getIsPinned, cursor.pinned())
+                                .eq(Memo::getCreateTime, cursor.createTime())
+                                .lt(Memo::getId, cursor.id())))
+                .last("LIMIT " + (pageSize + 1));
+        List<MemoResponse> memos = list(wrapper).stream()
+                .map(this::toResponse)
+                .toList();
+        boolean hasMore = memos.size() > pageSize;
+        if (hasMore) {
+            memos = memos.subList(0, pageSize);
+        }
+
+        return PageResult.<MemoResponse>builder()
+                .records(memos)
+                .size((long) pageSize)
+                .nextCursor(hasMore ? toCursor(memos.get(memos.size() - 1)) : null)
+                .build();
+    }
+
+    /**
+     * 构建分页查询条件：关键词、状态筛选以及 (is_pinned, create_time, id) 倒序排序。
+     *
+     * @param request 查询请求对象
+     * @return 查询条件
+     */
+    private LambdaQueryWrapper<Memo> buildPageQuery(MemoQueryRequest request) {
+        LambdaQueryWrapper<Memo> wrapper = new LambdaQueryWrapper<>();
+        wrapper.like(StringUtils.hasText(request.getKeyword()), Memo::getContent, request.getKeyword()) // 无法使用全文索引的关键字 (content LIKE '%keyword%')
+                .eq(request.getStatus() != null, Memo::getStatus, request.getStatus()); // 状态筛选 (如果前端传了 status 就查特定的，没传就查所有)
+
+        // 排序逻辑：ignorePinned 为 true 时跳过置顶排序；id 作为创建时间相同时的兜底，保证游标分页顺序稳定
+        if (!Boolean.TRUE.equals(request.getIgnorePinned())) {
+            wrapper.orderByDesc(Memo::getIsPinned);
+        }
+        wrapper.orderByDesc(Memo::getCreateTime, Memo::getId);
+        return wrapper;
+    }
+
+    /**
+     * 将关键词转换为全文索引的 BOOLEAN MODE 短语检索表达式。
+     * 用双引号包裹关键词，关键词中的 +、-、* 等运算符在短语内按普通字符处理。
+     *
+     * @param keyword 查询关键词
+     * @return 短语检索表达式；关键词无法使用全文索引（见 {@link NgramFulltext#supports}）或包含双引号时返回 null，
+     *         此时回退为 LIKE 匹配
+     */
+    private String toFulltextPhrase(String keyword) {
+        if (!ngramFulltext.supports(keyword) || keyword.indexOf('"') >= 0) {
+            return null;
+        }
+        return '"' + keyword.trim() + '"';
+    }
+
+    /**
+     * 根据 Memo 的排序键生成游标。
+     *
+     * @param memo 当前页的最后一条 Memo
+     * @return 编码后的游标字符串
+     */
+    private String toCursor(MemoResponse memo) {
+        return new PageCursor(Boolean.TRUE.equals(memo.getIsPinned()), memo.getCreateTime(), memo.getId()).encode();
+    }
+
     /**
      * 将 Memo 实例转换为 MemoResponse 实例。
      * 通过 BeanUtils 工具类复制 Memo 对象的属性值到 MemoResponse 中。
@@ -192,31 +313,60 @@ public class MemoServiceImpl extends ServiceImpl<MemoMapper, Memo> implements Me
         return response;
     }
 
+    /**
+     * 计算内容字数，按 Unicode 码点计数，与 MySQL 的 CHAR_LENGTH 一致（1 个汉字或 emoji = 1）。
+     *
+     * @param content Memo 内容
+     * @return 内容字数
+     */
+    private static int countChars(String content) {
+        return content == null ? 0 : content.codePointCount(0, content.length());
+    }
+
     /**
      * 查询 Memo 的统计信息，包括总记录数、总字数、当月新增记录数以及最新的创建时间。
+     * 数据由 {@link MemoStatistics} 在内存中增量维护，不访问数据库。
      *
      * @return 包含上述统计数据的 {@link MemoStatsResponse} 实例
      */
     public MemoStatsResponse getMemoStats() {
-        return baseMapper.selectMemoStats();
+        return memoStatistics.getStats();
     }
 
     /**
      * 获取往年今日的 Memo 列表。
      * 查询历史上同月同日（不含当年）已发布的 Memo，按创建时间倒序排列。
+     * <p>
+     * 条件作用于存储生成列 month_day（MMDD）与 create_time 的原始值，可以走 (status, month_day, create_time) 索引，
+     * 不再对每行计算 MONTH()/DAY()/YEAR()。"今天"按 {@code kome.time-zone} 计算，
+     * 结果按天缓存在 {@link MemoOnThisDayCache} 中，跨过当地零点或 Memo 变更后重新查询。
      *
      * @return 往年今日的 Memo 列表
      */
     @Override
     public List<MemoResponse> getMemosOnThisDay() {
-        List<Memo> memos = list(new LambdaQueryWrapper<Memo>()
-                .eq(Memo::getStatus, 1)
-                .apply("MONTH(create_time) = MONTH(NOW())")
-                .apply("DAY(create_time) = DAY(NOW())")
-                .apply("YEAR(create_time) < YEAR(NOW())")
-                .orderByDesc(Memo::getCreateTime)
-        );
-        return memos.stream().map(this::toResponse).toList();
+        return memoOnThisDayCache.get(today -> {
+            int monthDay = today.getMonthValue() * 100 + today.getDayOfMonth();
+            List<Memo> memos = list(new LambdaQueryWrapper<Memo>()
+                    .eq(Memo::getStatus, 1)
+                    .apply("month_day = {0}", monthDay)
+                    .lt(Memo::getCreateTime, today.withDayOfYear(1).atStartOfDay())
+                    .orderByDesc(Memo::getCreateTime)
+            );
+            return memos.stream().map(this::toResponse).toList();
+        });
+    }
+
+    /**
+     * 获取最近若干年每天发布的 Memo 数与文章数。
+     * 数据由 {@link ActivityHeatmap} 在内存中按天维护，不访问数据库。
+     *
+     * @param years 年数，为空或小于 1 时默认为 1，超出上限时按 {@code kome.memo.heatmap-years} 计算
+     * @return 游程编码后的每日数量
+     */
+    @Override
+    public ActivityHeatmapResponse getActivityHeatmap(Integer years) {
+        return activityHeatmap.get(years == null || years < 1 ? 1 : years);
     }
 
 }
@@ -1,9 +1,15 @@
 package com.kmo.kome.service.impl;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
-import com.baomidou.mybatisplus.core.toolkit.Wrappers;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.kmo.kome.cache.PostArchiveIndex;
+import com.kmo.kome.cache.PostDetailCache;
+import com.kmo.kome.cache.PostNavIndex;
+import com.kmo.kome.cache.PostViewCounter;
+import com.kmo.kome.cache.SingleFlight;
+import com.kmo.kome.common.PageCursor;
 import com.kmo.kome.common.PageResult;
 import com.kmo.kome.common.ResultCode;
 import com.kmo.kome.common.exception.ServiceException;
@@ -11,28 +17,37 @@ import com.kmo.kome.dto.TagWhitPostIdDTO;
 import com.kmo.kome.dto.request.PostArchiveQueryRequest;
 import com.kmo.kome.dto.request.PostCreateRequest;
 import com.kmo.kome.dto.request.PostQueryRequest;
+import com.kmo.kome.dto.request.PostSearchRequest;
 import com.kmo.kome.dto.request.PostUpdateRequest;
-import com.kmo.kome.dto.response.PostArchiveResponse;
 import com.kmo.kome.dto.response.PostDetailResponse;
-import com.kmo.kome.dto.response.PostNavResponse;
+import com.kmo.kome.dto.response.PostSearchResponse;
 import com.kmo.kome.dto.response.PostSimpleResponse;
 import com.kmo.kome.dto.response.TagResponse;
 import com.kmo.kome.entity.Post;
 import com.kmo.kome.entity.PostTag;
 import com.kmo.kome.entity.Tag;
+import com.kmo.kome.event.PostChangedEvent;
 import com.kmo.kome.mapper.PostMapper;
+import com.kmo.kome.search.PostSearchEngine;
+import com.kmo.kome.search.SearchMetrics;
 import com.kmo.kome.service.PostService;
 import com.kmo.kome.service.PostTagService;
 import com.kmo.kome.service.TagService;
+import com.kmo.kome.utils.MarkdownRenderer;
 import com.kmo.kome.utils.MessageHelper;
 import com.kmo.kome.utils.PostUtils;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.BeanUtils;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
 
-import java.time.LocalDateTime;
+import java.time.DateTimeException;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -40,16 +55,28 @@ import java.util.stream.Collectors;
  * 文章服务实现类。
  * <p>
  * 实现文章的创建、更新、删除、详情查询、分页列表及归档等核心业务逻辑，
- * 包含 Slug 唯一性校验、标签关联管理及浏览量原子递增等功能。
+ * 包含 Slug 唯一性校验、标签关联管理及浏览量写回计数等功能。
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PostServiceImpl extends ServiceImpl<PostMapper, Post> implements PostService {
 
+    // 启动时补齐预渲染内容的每批文章数
+    private static final int RENDER_BACKFILL_BATCH_SIZE = 50;
+
     private final PostTagService postTagService;
     private final TagService tagService;
     private final PostUtils postUtils;
+    private final MarkdownRenderer markdownRenderer;
+    private final PostViewCounter postViewCounter;
+    private final PostDetailCache postDetailCache;
+    private final PostNavIndex postNavIndex;
+    private final PostArchiveIndex postArchiveIndex;
+    private final PostSearchEngine postSearchEngine;
+    private final SearchMetrics searchMetrics;
     private final MessageHelper messageHelper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 创建新文章。
@@ -75,11 +102,16 @@ public class PostServiceImpl extends ServiceImpl<PostMapper, Post> implements Po
         BeanUtils.copyProperties(request, newPost);
         // 计算阅读时间
         newPost.setReadTime(postUtils.calculateReadTime(request.getContent()));
+        // 预渲染 HTML、目录与摘要
+        applyRenderedContent(newPost);
         save(newPost);
 
         // 处理关联标签 (统一使用 resetPostTags 处理关联)
         resetPostTags(newPost.getId(), request.getTagIds());
 
+        // 发布变更事件，事务提交后刷新缓存
+        eventPublisher.publishEvent(new PostChangedEvent(null, getById(newPost.getId())));
+
         return newPost.getId();
     }
 
@@ -107,6 +139,10 @@ public class PostServiceImpl extends ServiceImpl<PostMapper, Post> implements Po
                         .eq(PostTag::getPostId, id)
         );
 
+        // 保留删除前的快照（下方会修改 post 的 slug）
+        Post deletedPost = new Post();
+        BeanUtils.copyProperties(post, deletedPost);
+
         // 为了释放唯一索引，修改slug
         String newSlug = post.getSlug() + "_del_" + System.currentTimeMillis();
         post.setSlug(newSlug);
@@ -116,6 +152,9 @@ public class PostServiceImpl extends ServiceImpl<PostMapper, Post> implements Po
 
         // 执行逻辑删除
         removeById(id);
+
+        // 发布变更事件，事务提交后刷新缓存
+        eventPublisher.publishEvent(new PostChangedEvent(deletedPost, null));
         return null;
     }
 
@@ -150,11 +189,16 @@ public class PostServiceImpl extends ServiceImpl<PostMapper, Post> implements Po
         newPost.setId(id);
         // 更新阅读时间
         newPost.setReadTime(postUtils.calculateReadTime(request.getContent()));
+        // 重新渲染 HTML、目录与摘要
+        applyRenderedContent(newPost);
         updateById(newPost);
 
         // 更新关联标签 (统一使用 resetPostTags 处理关联)
         resetPostTags(id, request.getTagIds());
 
+        // 发布变更事件，事务提交后刷新缓存
+        eventPublisher.publishEvent(new PostChangedEvent(oldPost, getById(id)));
+
         return null;
     }
 
@@ -176,48 +220,103 @@ public class PostServiceImpl extends ServiceImpl<PostMapper, Post> implements Po
 
         // 后台接口不增加阅读量
 
-        // 组装并返回 DTO
-        return buildPostDetailResponse(post);
+        // 组装并返回 DTO（后台编辑使用 Markdown 原文，不返回 HTML）
+        PostDetailResponse response = buildPostDetailResponse(post);
+        response.setContentHtml(null);
+        fillAdjacentPosts(response);
+        return response;
     }
 
     /**
      * 根据文章别名（Slug）获取文章详情。
      * 如果指定的文章不存在或未发布，则抛出业务异常。
+     * 文章主体与标签优先从 {@link PostDetailCache} 读取，阅读量在返回前合并内存中的实时计数。
+     * <p>
+     * 正文按请求的格式二选一返回：HTML 格式返回保存时预渲染的 contentHtml，否则返回 Markdown 原文 content，
+     * 目录与摘要两种格式均返回。
+     * <p>
+     * 相同 slug 与格式的并发请求通过 {@link SingleFlight} 合并为一次加载，共享同一个返回对象；
+     * 阅读量由调用方通过 {@link #recordPostView(Long)} 逐次累加。
      *
      * @param slug 文章的别名，用于唯一定位文章记录，不允许为空。
+     * @param html 是否返回渲染后的 HTML 正文。
      * @return 包含文章详细信息的响应对象，包含文章主表的所有字段。
      * @throws ServiceException 如果文章不存在或未发布，则抛出包含 404 状态的业务异常。
      */
     @Override
-    public PostDetailResponse getPostBySlug(String slug) {
-        // 根据 slug 查询文章
-        Post post = lambdaQuery()
-                .eq(Post::getSlug, slug)
-                .one();
-        // 检查文章是否存在并且已发布
-        if(post == null || post.getStatus() == 0){
-            throw new ServiceException(ResultCode.NOT_FOUND, messageHelper.get("error.post.notFoundOrUnpublished"));
+    @SingleFlight(key = "#slug + ':' + #html")
+    public PostDetailResponse getPostBySlug(String slug, boolean html) {
+        PostDetailCache.CachedPostDetail cached = postDetailCache.get(slug);
+        if (cached == null) {
+            // 查询前记录失效代数，查询期间文章被修改时不缓存旧数据
+            long loadingGeneration = postDetailCache.generation();
+            // 查询前记录写回序号，查询期间阅读量写回时数据库阅读量与已写回数量可能不一致
+            long flushSequence = postViewCounter.flushSequence();
+            // 根据 slug 查询文章
+            Post post = lambdaQuery()
+                    .eq(Post::getSlug, slug)
+                    .one();
+            // 检查文章是否存在并且已发布
+            if(post == null || post.getStatus() == 0){
+                throw new ServiceException(ResultCode.NOT_FOUND, messageHelper.get("error.post.notFoundOrUnpublished"));
+            }
+            // 阅读量基数 = 数据库中的阅读量 - 已从内存写回的部分
+            long baseViews = post.getViews() - postViewCounter.flushedOf(post.getId());
+            cached = new PostDetailCache.CachedPostDetail(buildPostDetailResponse(post), baseViews);
+            if (postViewCounter.noFlushSince(flushSequence)) {
+                postDetailCache.put(slug, cached, loadingGeneration);
+            }
         }
 
-        // 增加阅读量逻辑（原子递增，避免并发问题）
-        // 使用 update_time = update_time 防止 ON UPDATE CURRENT_TIMESTAMP 触发
-        // 这样只更新 views，不更新 update_time
-        update(Wrappers.<Post>lambdaUpdate()
-                .eq(Post::getId, post.getId())
-                .setSql("views = views + 1, update_time = update_time")
-        );
+        // 复制缓存对象并合并实时阅读量，避免修改缓存中的共享实例
+        Long postId = cached.detail().getId();
+        PostDetailResponse response = cached.copyWithViews(postViewCounter.hitsOf(postId));
+        if (html) {
+            response.setContent(null);
+        } else {
+            response.setContentHtml(null);
+        }
+        fillAdjacentPosts(response);
+        return response;
+    }
+
+    /**
+     * 记录一次公开文章阅读。
+     * 只在内存中累加，由 {@link PostViewCounter} 定时批量写回数据库，避免行锁热点。
+     *
+     * @param postId 文章 ID。
+     */
+    @Override
+    public void recordPostView(Long postId) {
+        postViewCounter.increment(postId);
+    }
 
-        return buildPostDetailResponse(post);
+    /**
+     * 根据别名记录一次公开文章阅读。
+     * 文章 ID 由内存中的 {@link PostNavIndex} 解析，不访问数据库。
+     *
+     * @param slug 文章别名，不存在或未发布时忽略。
+     */
+    @Override
+    public void recordPostViewBySlug(String slug) {
+        Long postId = postNavIndex.idOf(slug);
+        if (postId != null) {
+            postViewCounter.increment(postId);
+        }
     }
 
     /**
      * 查询公开文章分页数据。
      * 该方法用于获取已发布的文章列表，并按照置顶优先的规则进行排序。
      * 仅返回符合筛选条件的文章概要信息。
+     * <p>
+     * 支持两种分页方式：未携带游标时按页码分页（返回总数），并附带下一页游标；
+     * 携带游标时使用 Keyset 分页，直接定位到游标之后的记录，不执行 OFFSET 扫描和 COUNT 查询。
      *
-     * @param request 文章查询请求对象，用于定义分页参数（页码、每页数量）以及筛选条件（关键词、标签）。
+     * @param request 文章查询请求对象，用于定义分页参数（页码或游标、每页数量）以及筛选条件（关键词、标签）。
      *                方法内部会将状态强制设置为已发布（status=1），并重置为按照置顶优先排序。
-     * @return 包含文章概要信息的分页结果对象。结果包括总记录数、分页信息以及文章数据列表。
+     * @return 包含文章概要信息的分页结果对象。页码分页时包括总记录数；游标分页时总记录数与当前页码为 null。
+     * @throws ServiceException 如果游标格式不合法，抛出 {@code ResultCode.BAD_REQUEST} 异常。
      */
     @Override
     public PageResult<PostSimpleResponse> getPublicPostPage(PostQueryRequest request) {
@@ -225,87 +324,101 @@ public class PostServiceImpl extends ServiceImpl<PostMapper, Post> implements Po
         request.setStatus(1);
         // 公开接口始终按置顶优先排序
         request.setIgnorePinned(false);
-        return getAdminPostPage(request);
+
+        // 带关键词的列表查询记录耗时，与全文搜索 (mode=fulltext) 对比
+        if (StringUtils.hasText(request.getKeyword())) {
+            return searchMetrics.timer(SearchMetrics.MODE_LIKE).record(() -> doGetPublicPostPage(request));
+        }
+        return doGetPublicPostPage(request);
     }
 
     /**
-     * 获取文章归档信息。
-     * 该方法按年份和月份对已发布的文章进行归档，返回按时间分组的文章数据。
+     * 公开文章分页查询的具体实现，根据是否携带游标选择分页方式。
      *
-     * @param request 文章归档查询请求对象，用于定义筛选条件，包括关键字、标签等过滤条件。
-     * @return 包含按年份和月份分组的文章归档列表。在没有符合条件的文章时，返回空列表。
+     * @param request 已设置好状态与排序方式的查询请求对象。
+     * @return 包含文章概要信息的分页结果对象。
      */
-    @Override
-    public List<PostArchiveResponse> getArchivePosts(PostArchiveQueryRequest request) {
-        // 内部构造分页查询请求，复用 getAdminPostPage
-        PostQueryRequest query = new PostQueryRequest();
-        query.setPageNum(1);
-        query.setPageSize(-1); // 设置不分页
-        query.setKeyword(request.getKeyword());
-        query.setTagId(request.getTagId());
-        query.setStatus(1); // 只查询已发布文章
-
-        // 获取原始数据, 并按照创建时间倒叙排序
-        List<PostSimpleResponse> rawPosts = getAdminPostPage(query).getRecords().stream()
-                .sorted(Comparator.comparing(PostSimpleResponse::getCreateTime).reversed())
-                .toList();
-        // 空数据直接返回空列表
-        if(CollectionUtils.isEmpty(rawPosts)){
-            return Collections.emptyList();
+    private PageResult<PostSimpleResponse> doGetPublicPostPage(PostQueryRequest request) {
+        if (StringUtils.hasText(request.getCursor())) {
+            return getPostPageByCursor(request);
         }
 
-        return rawPosts.stream()
-                .collect(Collectors.groupingBy(
-                        post -> post.getCreateTime().getYear(), // 提取年份
-                        LinkedHashMap::new, // 保序Map：年份降序插入
-                        Collectors.groupingBy(
-                                post -> post.getCreateTime().getMonthValue(), // 提取月份
-                                LinkedHashMap::new, // 保序Map：月份降序插入
-                                Collectors.mapping(this::convertToArchiveSimplePost, Collectors.toList()) // 大对象转换成小对象
-                        )
-                )).entrySet().stream()
-                .map(yearEntry -> {
-                    Integer year = yearEntry.getKey();
-                    Map<Integer, List<PostArchiveResponse.ArchiveSimplePost>> monthMap = yearEntry.getValue();
-
-                    // 构建月份
-                    List<PostArchiveResponse.MonthGroup> months = monthMap.entrySet().stream()
-                            .map(monthEntry -> PostArchiveResponse.MonthGroup.builder()
-                                    .month(monthEntry.getKey())
-                                    .posts(monthEntry.getValue())
-                                    .total(monthEntry.getValue().size())
-                                    .build())
-                            .toList();
-                    // 计算年 total
-                    int yearTotal = months.stream().mapToInt(PostArchiveResponse.MonthGroup::getTotal).sum();
-                    // 构建年份
-                    return PostArchiveResponse.builder()
-                            .year(year)
-                            .months(months)
-                            .total(yearTotal)
-                            .build();
-                } )
-                .toList();
+        PageResult<PostSimpleResponse> result = getAdminPostPage(request);
+        // 首页仍返回总数，同时给出游标，后续翻页可切换到游标模式
+        List<PostSimpleResponse> records = result.getRecords();
+        if (!records.isEmpty() && result.getCurrent() * result.getSize() < result.getTotal()) {
+            result.setNextCursor(toCursor(records.get(records.size() - 1)));
+        }
+        return result;
     }
 
     /**
-     * 将文章概要响应对象转换为文章归档的简单文章对象。
-     * 该方法用于构建归档数据时，将文章的基本信息封装为归档所需格式。
+     * 使用 Keyset 分页查询文章列表。
+     * 多查询一条记录用于判断是否存在下一页，不执行 COUNT 查询。
      *
-     * @param origin 文章概要响应对象，包含文章的 ID、标题、别名（Slug）、标签和创建时间等基本信息。
-     *               不能为 null，且需确保其字段值已被正确初始化。
-     * @return 归档用的简单文章对象，包含文章的 ID、标题、别名（Slug）、标签和创建时间等信息。
+     * @param request 查询请求对象，cursor 不能为空。
+     * @return 分页结果，total 与 current 为 null，存在下一页时 nextCursor 不为 null。
+     * @throws ServiceException 如果游标格式不合法，抛出 {@code ResultCode.BAD_REQUEST} 异常。
      */
-    private PostArchiveResponse.ArchiveSimplePost convertToArchiveSimplePost(PostSimpleResponse origin){
-        return PostArchiveResponse.ArchiveSimplePost.builder()
-                .id(origin.getId())
-                .title(origin.getTitle())
-                .slug(origin.getSlug())
-                .tags(origin.getTags())
-                .createTime(origin.getCreateTime())
+    private PageResult<PostSimpleResponse> getPostPageByCursor(PostQueryRequest request) {
+        PageCursor cursor;
+        try {
+            cursor = PageCursor.decode(request.getCursor());
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new ServiceException(ResultCode.BAD_REQUEST, messageHelper.get("error.global.invalidCursor"));
+        }
+
+        int pageSize = request.getPageSize();
+        List<PostSimpleResponse> posts = baseMapper.selectPostSeek(request, cursor, pageSize + 1);
+        boolean hasMore = posts.size() > pageSize;
+        if (hasMore) {
+            posts = new ArrayList<>(posts.subList(0, pageSize));
+        }
+        fillPostTags(posts);
+
+        return PageResult.<PostSimpleResponse>builder()
+                .records(posts)
+                .size((long) pageSize)
+                .nextCursor(hasMore ? toCursor(posts.get(posts.size() - 1)) : null)
                 .build();
     }
 
+    /**
+     * 根据文章的排序键生成游标。
+     *
+     * @param post 当前页的最后一篇文章
+     * @return 编码后的游标字符串
+     */
+    private String toCursor(PostSimpleResponse post) {
+        return new PageCursor(Boolean.TRUE.equals(post.getIsPinned()), post.getCreateTime(), post.getId()).encode();
+    }
+
+    /**
+     * 全文搜索已发布的文章。
+     * 检索由配置项 {@code kome.search.engine} 选择的 {@link PostSearchEngine} 完成，
+     * 结果按相关度排序，并附带 HTML 转义后的标题高亮与正文片段高亮。
+     *
+     * @param request 搜索请求对象，包含关键词和分页参数。
+     * @return 包含搜索结果的分页数据，结果中不包含正文。
+     */
+    @Override
+    public PageResult<PostSearchResponse> searchPosts(PostSearchRequest request) {
+        return postSearchEngine.search(request.getKeyword().strip(), request.getPageNum(), request.getPageSize());
+    }
+
+    /**
+     * 获取文章归档信息。
+     * 该方法按年份和月份对已发布的文章进行归档，返回按时间分组的文章数据。
+     * 归档数据直接由内存中增量维护的 {@link PostArchiveIndex} 生成，序列化结果按过滤条件缓存。
+     *
+     * @param request 文章归档查询请求对象，用于定义筛选条件，包括关键字、标签等过滤条件。
+     * @return 按年份和月份分组的归档列表的 JSON 原始值。在没有符合条件的文章时为空数组。
+     */
+    @Override
+    public RawValue getArchivePosts(PostArchiveQueryRequest request) {
+        return postArchiveIndex.getArchiveJson(request.getKeyword(), request.getTagId());
+    }
+
     /**
      * 获取后台管理文章分页列表。
      * 根据提供的查询条件和分页参数，查询符合条件的文章主列表及其关联的标签信息，
@@ -318,10 +431,6 @@ public class PostServiceImpl extends ServiceImpl<PostMapper, Post> implements Po
     public PageResult<PostSimpleResponse> getAdminPostPage(PostQueryRequest request) {
         // 分页查询文章主列表
         Page<PostSimpleResponse> pageRequest = new Page<>(request.getPageNum(), request.getPageSize());
-        // 如果是 archive 接口调用，怎不分页也不查询 count
-        if(pageRequest.getSize() == -1){
-            pageRequest.setSearchCount(false);
-        }
         Page<PostSimpleResponse> postPage = baseMapper.selectPostPage(pageRequest, request);
 
         List<PostSimpleResponse> posts = postPage.getRecords();
@@ -334,7 +443,29 @@ public class PostServiceImpl extends ServiceImpl<PostMapper, Post> implements Po
                     .build();
         }
 
-        // 批量获取关联的标签
+        // 批量获取并设置关联的标签
+        fillPostTags(posts);
+
+        // 封装并返回数据
+        return PageResult.<PostSimpleResponse>builder()
+                .records(posts)
+                .total(postPage.getTotal())
+                .size(postPage.getSize())
+                .current(postPage.getCurrent())
+                .build();
+    }
+
+
+
+    /**
+     * 批量查询并设置文章列表的关联标签。
+     *
+     * @param posts 文章概要信息列表。
+     */
+    private void fillPostTags(List<PostSimpleResponse> posts) {
+        if (CollectionUtils.isEmpty(posts)) {
+            return;
+        }
         List<Long> postIds = posts.stream()
                 .map(PostSimpleResponse::getId)
                 .toList();
@@ -356,22 +487,12 @@ public class PostServiceImpl extends ServiceImpl<PostMapper, Post> implements Po
                 ));
         posts.forEach( post ->
                 post.setTags(postTagsMap.getOrDefault(post.getId(), Collections.emptyList())));
-
-        // 封装并返回数据
-        return PageResult.<PostSimpleResponse>builder()
-                .records(posts)
-                .total(postPage.getTotal())
-                .size(postPage.getSize())
-                .current(postPage.getCurrent())
-                .build();
     }
 
-
-
     /**
      * 构建文章详情响应对象。
      * 根据给定的文章实体对象，复制其基本属性，查询并设置相关联的标签信息，
-     * 最终返回封装完成的文章详情响应对象。
+     * 最终返回封装完成的文章详情响应对象（不含上一篇/下一篇导航）。
      *
      * @param post 文章实体对象，用于提供文章的基本信息和唯一标识符。
      * @return 包含文章详细信息和关联标签列表的响应对象。
@@ -381,47 +502,77 @@ public class PostServiceImpl extends ServiceImpl<PostMapper, Post> implements Po
         PostDetailResponse response = new PostDetailResponse();
         BeanUtils.copyProperties(post, response);
 
+        // 历史文章尚未补齐预渲染内容时临时渲染（不落库，由 backfillRenderedContent 补齐）
+        if (post.getContentHtml() == null) {
+            MarkdownRenderer.RenderedMarkdown rendered = markdownRenderer.render(post.getContent());
+            response.setContentHtml(rendered.html());
+            response.setToc(rendered.toc());
+            response.setExcerpt(rendered.excerpt());
+        }
+
         // 查询并设置标签列表
         List<TagResponse> tags = tagService.findTagsByPostId(post.getId());
         response.setTags(tags);
 
-        // 查询并设置上一篇/下一篇导航（仅对已发布文章）
-        if (post.getStatus() != null && post.getStatus() == 1) {
-            response.setPrevious(findAdjacentPost(post.getCreateTime(), true));
-            response.setNext(findAdjacentPost(post.getCreateTime(), false));
-        }
-
         return response;
     }
 
     /**
-     * 查询相邻的已发布文章。
+     * 渲染文章的 Markdown 正文，并将 HTML、目录与摘要写入文章实体。
      *
-     * @param createTime 当前文章的创建时间
-     * @param isPrevious true 查询上一篇（更早的），false 查询下一篇（更晚的）
-     * @return 相邻文章的导航信息，如果不存在则返回 null
+     * @param post 待保存的文章实体，content 为 Markdown 原文。
+     */
+    private void applyRenderedContent(Post post) {
+        MarkdownRenderer.RenderedMarkdown rendered = markdownRenderer.render(post.getContent());
+        post.setContentHtml(rendered.html());
+        post.setToc(rendered.toc());
+        post.setExcerpt(rendered.excerpt());
+    }
+
+    /**
+     * 为尚未生成预渲染内容的文章补齐 HTML、目录与摘要。
+     * 在应用启动完成后执行一次，按 ID 分批处理，主要用于升级前已存在的文章；
+     * 写回时不修改 update_time，也不发布变更事件（文章的可见内容并未变化）。
      */
-    private PostNavResponse findAdjacentPost(LocalDateTime createTime, boolean isPrevious) {
-        Post post = lambdaQuery()
-                .select(Post::getId, Post::getTitle, Post::getSlug)
-                .eq(Post::getStatus, 1)
-                .apply(isPrevious
-                        ? "create_time < {0}"
-                        : "create_time > {0}", createTime)
-                .orderBy(true, !isPrevious, Post::getCreateTime)
-                .last("LIMIT 1")
-                .one();
-
-        if (post == null) {
-            return null;
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillRenderedContent() {
+        long lastId = 0;
+        int total = 0;
+        while (true) {
+            List<Post> posts = lambdaQuery()
+                    .select(Post::getId, Post::getContent)
+                    .isNull(Post::getContentHtml)
+                    .gt(Post::getId, lastId)
+                    .orderByAsc(Post::getId)
+                    .last("LIMIT " + RENDER_BACKFILL_BATCH_SIZE)
+                    .list();
+            for (Post post : posts) {
+                MarkdownRenderer.RenderedMarkdown rendered = markdownRenderer.render(post.getContent());
+                baseMapper.updateRenderedContent(post.getId(), rendered.html(), rendered.toc(), rendered.excerpt());
+                lastId = post.getId();
+            }
+            total += posts.size();
+            if (posts.size() < RENDER_BACKFILL_BATCH_SIZE) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Rendered HTML backfilled for {} posts", total);
         }
-        return PostNavResponse.builder()
-                .id(post.getId())
-                .title(post.getTitle())
-                .slug(post.getSlug())
-                .build();
     }
 
+    /**
+     * 设置上一篇/下一篇导航（仅对已发布文章）。
+     * 导航信息由内存中的 {@link PostNavIndex} 提供，不访问数据库。
+     *
+     * @param response 待填充导航信息的文章详情响应对象。
+     */
+    private void fillAdjacentPosts(PostDetailResponse response){
+        if (response.getStatus() != null && response.getStatus() == 1) {
+            response.setPrevious(postNavIndex.previous(response.getCreateTime()));
+            response.setNext(postNavIndex.next(response.getCreateTime()));
+        }
+    }
 
     /**
      * 检查文章的别名（Slug）是否唯一。
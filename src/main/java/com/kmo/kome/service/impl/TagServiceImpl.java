@@ -4,6 +4,7 @@ import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.core.toolkit.Wrappers;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import com.kmo.kome.cache.SingleFlight;
 import com.kmo.kome.common.PageResult;
 import com.kmo.kome.common.ResultCode;
 import com.kmo.kome.common.exception.ServiceException;
@@ -13,11 +14,14 @@ import com.kmo.kome.dto.response.TagPostCountResponse;
 import com.kmo.kome.dto.response.TagResponse;
 import com.kmo.kome.entity.PostTag;
 import com.kmo.kome.entity.Tag;
+import com.kmo.kome.event.TagChangedEvent;
 import com.kmo.kome.mapper.TagMapper;
 import com.kmo.kome.service.PostTagService;
 import com.kmo.kome.service.TagService;
 import com.kmo.kome.utils.MessageHelper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.BeanUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -33,6 +37,7 @@ public class TagServiceImpl extends ServiceImpl<TagMapper, Tag> implements TagSe
 
     private final PostTagService postTagService;
     private final MessageHelper messageHelper;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     /**
@@ -56,6 +61,7 @@ public class TagServiceImpl extends ServiceImpl<TagMapper, Tag> implements TagSe
         Tag newTag = new Tag();
         newTag.setName(name);
         save(newTag);
+        eventPublisher.publishEvent(new TagChangedEvent(null, newTag));
         return new TagResponse(newTag.getId(), newTag.getName());
     }
 
@@ -90,6 +96,12 @@ public class TagServiceImpl extends ServiceImpl<TagMapper, Tag> implements TagSe
                 .eq(Tag::getId, id)
                 .set(Tag::getName, name)
         );
+
+        // 发布变更事件，刷新引用该标签的缓存
+        Tag newTag = new Tag();
+        BeanUtils.copyProperties(oldTag, newTag);
+        newTag.setName(name);
+        eventPublisher.publishEvent(new TagChangedEvent(oldTag, newTag));
         return new TagResponse(id, name);
     }
 
@@ -121,6 +133,7 @@ public class TagServiceImpl extends ServiceImpl<TagMapper, Tag> implements TagSe
         }
         // 删除标签
         removeById(id);
+        eventPublisher.publishEvent(new TagChangedEvent(tag, null));
         return null;
     }
 
@@ -167,10 +180,12 @@ public class TagServiceImpl extends ServiceImpl<TagMapper, Tag> implements TagSe
     /**
      * 获取所有公开标签的列表，包括标签及其关联文章的数量。
      * 该方法常用于前端展示公开标签信息的场景。
+     * 并发调用通过 {@link SingleFlight} 合并为一次查询。
      *
      * @return 包含标签及其文章数量信息的列表
      */
     @Override
+    @SingleFlight
     public List<TagPostCountResponse> getPublicTagList() {
         return baseMapper.selectPublicTagList();
     }
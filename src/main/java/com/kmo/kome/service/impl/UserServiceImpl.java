@@ -9,15 +9,21 @@ import com.kmo.kome.dto.request.UserUpdatePasswordRequest;
 import com.kmo.kome.dto.request.UserUpdateRequest;
 import com.kmo.kome.dto.response.UserInfoResponse;
 import com.kmo.kome.entity.User;
+import com.kmo.kome.event.UserChangedEvent;
 import com.kmo.kome.mapper.UserMapper;
 import com.kmo.kome.service.UserService;
 import com.kmo.kome.utils.MessageHelper;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
 
 /**
  * 用户业务实现类
@@ -30,6 +36,7 @@ public class UserServiceImpl extends ServiceImpl<UserMapper, User> implements Us
 
     private final PasswordEncoder passwordEncoder;
     private final MessageHelper messageHelper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 创建初始化阶段的 owner 账户，并集中处理唯一性校验与默认字段填充。
@@ -63,6 +70,9 @@ public class UserServiceImpl extends ServiceImpl<UserMapper, User> implements Us
         owner.setIsDeleted(false);
 
         save(owner);
+
+        // 发布变更事件，事务提交后刷新缓存
+        eventPublisher.publishEvent(new UserChangedEvent(null, owner));
     }
 
     /**
@@ -106,6 +116,7 @@ public class UserServiceImpl extends ServiceImpl<UserMapper, User> implements Us
      *         2. 待更新的用户名或邮箱已被占用。
      */
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public UserInfoResponse updateUserInfoById(Long currentUserId, UserUpdateRequest request) {
         // 前置检查
         User user = checkAndGetUser(currentUserId);
@@ -132,6 +143,9 @@ public class UserServiceImpl extends ServiceImpl<UserMapper, User> implements Us
 
         // 返回更新后的用户信息
         User updatedUser = getById(currentUserId);
+
+        // 发布变更事件，事务提交后刷新缓存
+        eventPublisher.publishEvent(new UserChangedEvent(user, updatedUser));
         return UserInfoResponse.builder()
                 .id(updatedUser.getId())
                 .username(updatedUser.getUsername())
@@ -148,12 +162,14 @@ public class UserServiceImpl extends ServiceImpl<UserMapper, User> implements Us
      * 根据用户 ID 更新用户密码。
      * 验证旧密码的正确性，并确保新密码与旧密码不同。
      * 如果验证失败或用户不存在，将抛出相应的业务异常。
+     * 修改成功后，该用户在此之前签发的所有 Token（包括当前会话）全部失效。
      *
      * @param currentUserId 当前执行操作的用户 ID，不能为空，用于标识目标用户。
      * @param request 包含更新密码所需的旧密码和新密码的请求对象，不允许为空。
      * @throws ServiceException 当用户不存在、旧密码验证失败或新旧密码相同时抛出业务异常。
      */
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public void updateUserPasswordById(Long currentUserId, UserUpdatePasswordRequest request) {
         // 前置检查
         User user = checkAndGetUser(currentUserId);
@@ -170,11 +186,16 @@ public class UserServiceImpl extends ServiceImpl<UserMapper, User> implements Us
         // 新密码加密
         String encodePassword = passwordEncoder.encode(request.getNewPassword());
 
-        // 使用 Wrappers 工厂类，并只更新 password 字段
+        // 使用 Wrappers 工厂类，只更新 password 字段与 Token 吊销时间点
+        // JWT 签发时间精确到秒，吊销时间点同样截断到秒，修改密码之后签发的 Token 不受影响
         update(Wrappers.<User>lambdaUpdate()
                 .eq(User::getId, currentUserId)
                 .set(User::getPassword, encodePassword)
+                .set(User::getTokenValidAfter, LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS))
         );
+
+        // 发布变更事件，事务提交后刷新缓存
+        eventPublisher.publishEvent(new UserChangedEvent(user, getById(currentUserId)));
     }
 
     /**
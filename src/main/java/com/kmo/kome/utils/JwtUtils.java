@@ -1,25 +1,46 @@
 package com.kmo.kome.utils;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT 工具类
  * <p>
  * 负责 Token 的生成、解析和校验。
  * 适配 JJWT 0.12.x+ 版本 API。
+ * <p>
+ * 签名密钥与解析器（线程安全）在启动时构建一次。验签通过的 Token 以其 SHA-256 摘要为 key
+ * 缓存解析出的 userId，直到 Token 过期，同一 Token 的后续请求只需计算一次摘要，
+ * 不再重复 Base64 解码、JSON 解析与 HMAC 验签。缓存中不保存 Token 原文。
+ * 命中、未命中、淘汰次数通过 /actuator/metrics/cache.* 指标（cache=jwt）暴露。
  */
 @Component
+@RequiredArgsConstructor
 public class JwtUtils {
 
+    private final MeterRegistry meterRegistry;
+
     // 从 application.yml 读取密钥
     @Value("${jwt.secret}")
     private String secret;
@@ -28,16 +49,47 @@ public class JwtUtils {
     @Value("${jwt.expiration}")
     private long expiration;
 
+    // 已验签 Token 缓存的最大条目数
+    @Value("${kome.cache.jwt.max-size:1024}")
+    private long cacheMaxSize;
+
+    private SecretKey signingKey;
+    private JwtParser parser;
+    private Cache<String, VerifiedToken> verifiedTokens;
+
     /**
-     * 获取加密密钥
+     * 构建签名密钥、解析器与已验签 Token 缓存
      * <p>
      * 使用 UTF-8 编码将字符串转换为字节，生成 HMAC-SHA 密钥。
      * 注意: secret 字符串长度必须大于等于 32 个字符 (针对 HS256 算法需求)
-     *
-     * @return SecretKey 对象
      */
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser()
+                .verifyWith(signingKey) // 设置验签密钥
+                .build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(value.expiresAt() - System.currentTimeMillis(), 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt");
     }
 
     /**
@@ -51,19 +103,20 @@ public class JwtUtils {
                 .subject(String.valueOf(userId)) // 主题 (Subject) 设置为 userId 的字符串形式
                 .issuedAt(new Date()) // 设置签发时间
                 .expiration(new Date(System.currentTimeMillis() + expiration)) // 设置过期时间
-                .signWith(getSigningKey(), Jwts.SIG.HS256) // 使用 Jwts.SIG.HS256 指定算法签名
+                .signWith(signingKey, Jwts.SIG.HS256) // 使用 Jwts.SIG.HS256 指定算法签名
                 .compact();
     }
 
     /**
      * 从提供的 JWT Token 中解析并获取用户的唯一标识符 (userId)。
+     * 已验签且未过期的 Token 直接从缓存返回。
      *
      * @param token JWT Token，用于解析和提取用户 ID
      * @return 解析后的用户唯一标识符 (userId)，以 Long 类型返回
+     * @throws io.jsonwebtoken.JwtException Token 过期、签名错误或格式错误时抛出
      */
     public Long getUserIdFromToken(String token) {
-        String subject = parseToken(token).getPayload().getSubject();
-        return Long.parseLong(subject);
+        return verifyToken(token).userId();
     }
 
     /**
@@ -74,7 +127,7 @@ public class JwtUtils {
      */
     public boolean validateToken(String token) {
         try {
-            parseToken(token);
+            verifyToken(token);
             return true;
         } catch (Exception e) {
             // 如果解析失败（过期、签名错误、格式错误），说明 Token 无效
@@ -82,16 +135,71 @@ public class JwtUtils {
         }
     }
 
+    /**
+     * 校验 Token 并返回验签结果，优先读取缓存
+     * <p>
+     * 仅校验签名与过期时间，是否已被吊销由调用方另行判断。
+     *
+     * @param token JWT Token
+     * @return 验签通过的 Token 信息
+     * @throws io.jsonwebtoken.JwtException Token 过期、签名错误或格式错误时抛出
+     */
+    public VerifiedToken verifyToken(String token) {
+        String key = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            if (cached.expiresAt() > System.currentTimeMillis()) {
+                return cached;
+            }
+            // 缓存过期清理存在延迟，过期后交由解析器抛出 ExpiredJwtException
+            verifiedTokens.invalidate(key);
+        }
+
+        Claims claims = parseToken(token).getPayload();
+        Long userId = Long.parseLong(claims.getSubject());
+        Date issuedAt = claims.getIssuedAt();
+        Date expiresAt = claims.getExpiration();
+        VerifiedToken verified = new VerifiedToken(key, userId,
+                issuedAt == null ? 0L : issuedAt.getTime(),
+                expiresAt == null ? Long.MAX_VALUE : expiresAt.getTime());
+        if (expiresAt != null) {
+            // 不带过期时间的 Token 不做缓存
+            verifiedTokens.put(key, verified);
+        }
+        return verified;
+    }
+
     /**
      * 解析 Token 的内部通用方法
      *
      * @param token JWT Token
      * @return 解析后的 Jws 对象
+     * @throws ExpiredJwtException Token 已过期时抛出
      */
     private Jws<Claims> parseToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey()) // 设置验签密钥
-                .build()                     // 构建解析器
-                .parseSignedClaims(token);   // 解析并验证签名
+        return parser.parseSignedClaims(token); // 解析并验证签名
+    }
+
+    /**
+     * 计算 Token 的 SHA-256 摘要，作为缓存 key
+     */
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * 验签通过的 Token 信息
+     *
+     * @param id        Token 的 SHA-256 摘要（Base64，无填充），用于吊销等场景标识 Token 而不保存原文
+     * @param userId    Token 中的用户 ID
+     * @param issuedAt  签发时间（毫秒时间戳，JWT 精度为秒），缺失时为 0
+     * @param expiresAt 过期时间（毫秒时间戳）
+     */
+    public record VerifiedToken(String id, Long userId, long issuedAt, long expiresAt) {
     }
 }
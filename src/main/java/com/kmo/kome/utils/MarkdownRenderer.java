@@ -0,0 +1,218 @@
+package com.kmo.kome.utils;
+
+import com.kmo.kome.dto.TocItem;
+import org.commonmark.Extension;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.node.AbstractVisitor;
+import org.commonmark.node.Code;
+import org.commonmark.node.CustomBlock;
+import org.commonmark.node.CustomNode;
+import org.commonmark.node.FencedCodeBlock;
+import org.commonmark.node.HardLineBreak;
+import org.commonmark.node.Heading;
+import org.commonmark.node.HtmlBlock;
+import org.commonmark.node.HtmlInline;
+import org.commonmark.node.IndentedCodeBlock;
+import org.commonmark.node.Node;
+import org.commonmark.node.Paragraph;
+import org.commonmark.node.SoftLineBreak;
+import org.commonmark.node.Text;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Markdown 渲染工具类
+ * <p>
+ * 在文章保存时将 Markdown 正文渲染为 HTML，同时生成基于标题的目录与纯文本摘要，
+ * 渲染结果随文章一起持久化，读取时直接返回，不再重复解析。
+ * <p>
+ * 输出的 HTML 已做安全处理：正文中的原始 HTML 一律转义输出，链接与图片地址中的
+ * {@code javascript:} 等危险协议会被清除。支持 GFM 表格语法。
+ */
+@Component
+public class MarkdownRenderer {
+
+    // 纯文本摘要的最大长度（字符数）
+    private static final int EXCERPT_LENGTH = 200;
+
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+    private static final Pattern ANCHOR_SEPARATOR_PATTERN = Pattern.compile("[^\\p{L}\\p{N}]+"); // 锚点中的非字母数字片段
+
+    private final List<Extension> extensions = List.of(TablesExtension.create());
+    private final Parser parser = Parser.builder().extensions(extensions).build();
+
+    /**
+     * 渲染 Markdown 内容。
+     *
+     * @param markdown Markdown 原始内容，可为 null
+     * @return 渲染结果，内容为空时 HTML 与摘要为空字符串、目录为空列表
+     */
+    public RenderedMarkdown render(String markdown) {
+        if (!StringUtils.hasText(markdown)) {
+            return new RenderedMarkdown("", List.of(), "");
+        }
+        Node document = parser.parse(markdown);
+
+        // 收集标题并分配唯一锚点，渲染 HTML 时写入标题元素的 id 属性
+        Map<Node, String> headingIds = new IdentityHashMap<>();
+        List<TocItem> toc = new ArrayList<>();
+        Set<String> usedIds = new HashSet<>();
+        Map<String, Integer> idCounters = new HashMap<>();
+        document.accept(new AbstractVisitor() {
+            @Override
+            public void visit(Heading heading) {
+                String text = headingText(heading);
+                String id = uniqueAnchor(text, usedIds, idCounters);
+                headingIds.put(heading, id);
+                toc.add(new TocItem(heading.getLevel(), id, text));
+            }
+        });
+
+        HtmlRenderer htmlRenderer = HtmlRenderer.builder()
+                .extensions(extensions)
+                .escapeHtml(true)
+                .sanitizeUrls(true)
+                .attributeProviderFactory(context -> (node, tagName, attributes) -> {
+                    String id = headingIds.get(node);
+                    if (id != null) {
+                        attributes.put("id", id);
+                    }
+                })
+                .build();
+
+        return new RenderedMarkdown(htmlRenderer.render(document), toc, excerpt(document));
+    }
+
+    /**
+     * 提取纯文本摘要：只保留正文文字与行内代码，跳过代码块、原始 HTML 和链接地址，
+     * 合并空白后截取前 {@value #EXCERPT_LENGTH} 个字符。
+     */
+    private static String excerpt(Node document) {
+        StringBuilder builder = new StringBuilder();
+        document.accept(new AbstractVisitor() {
+            @Override
+            public void visit(Text text) {
+                builder.append(text.getLiteral());
+            }
+
+            @Override
+            public void visit(Code code) {
+                builder.append(code.getLiteral());
+            }
+
+            @Override
+            public void visit(SoftLineBreak softLineBreak) {
+                builder.append(' ');
+            }
+
+            @Override
+            public void visit(HardLineBreak hardLineBreak) {
+                builder.append(' ');
+            }
+
+            @Override
+            public void visit(Paragraph paragraph) {
+                visitChildren(paragraph);
+                builder.append(' ');
+            }
+
+            @Override
+            public void visit(Heading heading) {
+                visitChildren(heading);
+                builder.append(' ');
+            }
+
+            @Override
+            public void visit(FencedCodeBlock fencedCodeBlock) {
+            }
+
+            @Override
+            public void visit(IndentedCodeBlock indentedCodeBlock) {
+            }
+
+            @Override
+            public void visit(HtmlBlock htmlBlock) {
+            }
+
+            @Override
+            public void visit(HtmlInline htmlInline) {
+            }
+
+            @Override
+            public void visit(CustomBlock customBlock) {
+                visitChildren(customBlock);
+                builder.append(' ');
+            }
+
+            @Override
+            public void visit(CustomNode customNode) {
+                // 表格单元格等扩展节点之间以空格分隔
+                visitChildren(customNode);
+                builder.append(' ');
+            }
+        });
+        String text = WHITESPACE_PATTERN.matcher(builder).replaceAll(" ").trim();
+        if (text.codePointCount(0, text.length()) <= EXCERPT_LENGTH) {
+            return text;
+        }
+        return text.substring(0, text.offsetByCodePoints(0, EXCERPT_LENGTH)).stripTrailing() + "…";
+    }
+
+    /**
+     * 拼接标题下的全部文本（包括行内代码），忽略强调、链接等标记。
+     */
+    private static String headingText(Heading heading) {
+        StringBuilder builder = new StringBuilder();
+        heading.accept(new AbstractVisitor() {
+            @Override
+            public void visit(Text text) {
+                builder.append(text.getLiteral());
+            }
+
+            @Override
+            public void visit(Code code) {
+                builder.append(code.getLiteral());
+            }
+        });
+        return WHITESPACE_PATTERN.matcher(builder).replaceAll(" ").trim();
+    }
+
+    /**
+     * 根据标题文本生成锚点：保留各语言的字母与数字并转为小写，其余字符替换为连字符；
+     * 与已有锚点重复时依次追加 -1、-2 等后缀。
+     */
+    private static String uniqueAnchor(String text, Set<String> usedIds, Map<String, Integer> idCounters) {
+        String base = ANCHOR_SEPARATOR_PATTERN.matcher(text.toLowerCase()).replaceAll("-");
+        base = StringUtils.trimLeadingCharacter(StringUtils.trimTrailingCharacter(base, '-'), '-');
+        if (base.isEmpty()) {
+            base = "section";
+        }
+        String id = base;
+        while (!usedIds.add(id)) {
+            int counter = idCounters.merge(base, 1, Integer::sum);
+            id = base + "-" + counter;
+        }
+        return id;
+    }
+
+    /**
+     * Markdown 渲染结果。
+     *
+     * @param html    安全处理后的 HTML
+     * @param toc     按出现顺序排列的目录项
+     * @param excerpt 纯文本摘要
+     */
+    public record RenderedMarkdown(String html, List<TocItem> toc, String excerpt) {
+    }
+}
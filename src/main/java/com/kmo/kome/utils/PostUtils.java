@@ -3,28 +3,26 @@ package com.kmo.kome.utils;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 /**
  * Post 工具类
  * <p>
  * 提供与文章相关的实用工具方法，包括基于 Markdown 文本内容的阅读时间估算。
+ * <p>
+ * 阅读时间所需的各项统计在一次正向扫描中完成，不构造中间字符串。统计口径与以下正则表达式的匹配结果完全一致：
+ * <ul>
+ *     <li>中文字符：{@code [\u4e00-\u9fff]}</li>
+ *     <li>英文单词：依次删除 {@code ```[\s\S]*?```} 与 {@code `[^`]+`} 后，统计 {@code \b[a-zA-Z]+\b}</li>
+ *     <li>图片：{@code !\[[^]]*\]\([^)]*\)}</li>
+ *     <li>代码块：{@code ```[\s\S]*?```}，按匹配内容的行数统计</li>
+ *     <li>数学公式：{@code \$\$[^$]+\$\$} 与 {@code (?<!\$)\$[^\n$]+\$(?!\$)}</li>
+ *     <li>表格行：{@code ^\|.*\|$}（MULTILINE）</li>
+ *     <li>列表项：{@code ^(?:[-*+•]|\d+\.)\s+.*$}（MULTILINE）</li>
+ * </ul>
  */
 @Component
 public class PostUtils {
 
-    // 正则们（提前编译，性能好）
-    private static final Pattern CHINESE_PATTERN = Pattern.compile("[\\u4e00-\\u9fff]");
-    private static final Pattern ENGLISH_WORD_PATTERN = Pattern.compile("\\b[a-zA-Z]+\\b");
-    private static final Pattern IMAGE_PATTERN = Pattern.compile("!\\[[^]]*\\]\\([^)]*\\)");  // ![alt](url)
-    private static final Pattern CODE_BLOCK_PATTERN = Pattern.compile("```[\\s\\S]*?```");     // ```代码```
-    private static final Pattern INLINE_CODE_PATTERN = Pattern.compile("`[^`]+`");             // `inline`
-    private static final Pattern MATH_BLOCK_PATTERN = Pattern.compile("\\$\\$[^$]+\\$\\$");    // $$公式$$
-    private static final Pattern MATH_INLINE_PATTERN = Pattern.compile("(?<!\\$)\\$[^\n$]+\\$(?!\\$)"); // $公式$
-    private static final Pattern TABLE_ROW_PATTERN = Pattern.compile("^\\|.*\\|$", Pattern.MULTILINE); // | 表格行 |
-    private static final Pattern LIST_ITEM_PATTERN = Pattern.compile("^(?:[-*+•]|\\d+\\.)\\s+.*$", Pattern.MULTILINE); // - 项目 或 1. 项目
-
+    private static final String FENCE = "```";
 
     /**
      * 根据给定的 Markdown 内容计算预计阅读时间，并返回以分钟为单位的结果。
@@ -40,82 +38,383 @@ public class PostUtils {
             return 1;
         }
 
-        // 1. 统计中文字符数
-        Matcher chineseMatcher = CHINESE_PATTERN.matcher(markdownContent);
-        int chineseCount = 0;
-        while (chineseMatcher.find()) chineseCount++;
-
-        // 2. 统计英文单词数（去掉代码块后再统计更准）
-        String textWithoutCode = markdownContent
-                .replaceAll("```[\\s\\S]*?```", "")  // 先去掉代码块
-                .replaceAll("`[^`]+`", "");          // 再去掉行内代码
-        Matcher englishMatcher = ENGLISH_WORD_PATTERN.matcher(textWithoutCode);
-        int englishWordCount = 0;
-        while (englishMatcher.find()) englishWordCount++;
-
-        // 3. 统计各种耗时元素
-        int imageCount = countPattern(markdownContent, IMAGE_PATTERN);
-        int codeBlockLineCount = countLinesInPattern(markdownContent);
-        int mathBlockCount = countPattern(markdownContent, MATH_BLOCK_PATTERN) + countPattern(markdownContent, MATH_INLINE_PATTERN);
-        int tableRowCount = countPattern(markdownContent, TABLE_ROW_PATTERN);
-        int listItemCount = countPattern(markdownContent, LIST_ITEM_PATTERN);
-
-        // 4. 计算总阅读时间（秒）
+        MarkdownStats stats = scan(markdownContent);
+
+        // 计算总阅读时间（秒）
         double seconds = 0.0;
 
         // 中文：350字/分钟 → 每字 60/350 ≈ 0.171 秒
-        seconds += chineseCount * 0.171;
+        seconds += stats.chineseCount() * 0.171;
 
         // 英文：180词/分钟 → 每词 60/180 = 0.333 秒
-        seconds += englishWordCount * 0.333;
+        seconds += stats.englishWordCount() * 0.333;
 
         // 代码块：阅读速度降为 1/4（非常慢）
-        seconds += codeBlockLineCount * 0.171 * 4;  // 相当于中文的 4 倍时间
+        seconds += stats.codeBlockLineCount() * 0.171 * 4;  // 相当于中文的 4 倍时间
 
         // 图片：每张 12 秒（Medium 标准）
-        seconds += imageCount * 12;
+        seconds += stats.imageCount() * 12;
 
         // 数学公式：每处 15 秒
-        seconds += mathBlockCount * 15;
+        seconds += stats.mathCount() * 15;
 
         // 表格：每行 10 秒（结构复杂）
-        seconds += tableRowCount * 10;
+        seconds += stats.tableRowCount() * 10;
 
         // 列表：每项 3 秒（跳着读也需要时间）
-        seconds += listItemCount * 3;
+        seconds += stats.listItemCount() * 3;
 
-        // 5. 转为分钟，至少 1 分钟，向上取整
+        // 转为分钟，至少 1 分钟，向上取整
         return Math.max(1, (int) Math.ceil(seconds / 60.0));
     }
 
     /**
-     * 统计给定文本中与指定正则模式匹配的次数。
+     * 一次正向扫描统计 Markdown 文本中影响阅读时间的各类元素。
+     * <p>
+     * 每类元素维护各自的 "下一次允许匹配的位置"，以复现正则表达式从左到右、互不重叠的匹配语义；
+     * 命中某个结构时只向前查找其结束位置，不回退扫描。
+     * 英文单词统计在删除代码块和行内代码后的虚拟文本上进行，被删除的字符直接跳过，不生成中间字符串。
      *
-     * @param text 要搜索的文本内容
-     * @param pattern 用于匹配的正则表达式模式
-     * @return 匹配的次数
+     * @param text Markdown 文本，不能为 null
+     * @return 各类元素的统计结果
      */
-    private int countPattern(String text, Pattern pattern) {
-        Matcher matcher = pattern.matcher(text);
-        int count = 0;
-        while (matcher.find()) count++;
-        return count;
+    MarkdownStats scan(String text) {
+        int length = text.length();
+        // 最后一个 ``` 的位置：位于 i 的 ``` 只有在 i + 3 <= lastFence 时才存在闭合标记
+        int lastFence = text.lastIndexOf(FENCE);
+
+        int chineseCount = 0;
+        int imageCount = 0;
+        int codeBlockLineCount = 0;
+        int mathCount = 0;
+        int tableRowCount = 0;
+        int listItemCount = 0;
+        WordCounter words = new WordCounter();
+
+        int codeBlockEnd = 0;      // 当前代码块结束位置（不含）
+        int inlineCodeEnd = 0;     // 当前行内代码结束位置（不含）
+        boolean inlineCodeDone = false;
+        int imageFrom = 0;
+        boolean imageDone = false;
+        int mathBlockFrom = 0;
+        boolean mathBlockDone = false;
+        int mathInlineFrom = 0;
+        int tableFrom = 0;
+        int listFrom = 0;
+
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+
+            // 中文字符
+            if (c >= '\u4e00' && c <= '\u9fff') {
+                chineseCount++;
+            }
+
+            // 代码块：```[\s\S]*?```，行数 = 换行符数 + 1
+            if (i >= codeBlockEnd && c == '`' && i + 3 <= lastFence && text.startsWith(FENCE, i)) {
+                codeBlockEnd = text.indexOf(FENCE, i + 3) + 3;
+                codeBlockLineCount++;
+            }
+            boolean inCodeBlock = i < codeBlockEnd;
+            if (inCodeBlock && c == '\n') {
+                codeBlockLineCount++;
+            }
+
+            // 英文单词：只统计不在代码块、行内代码中的字符
+            if (!inCodeBlock) {
+                if (i >= inlineCodeEnd && c == '`' && !inlineCodeDone) {
+                    int end = findInlineCodeEnd(text, i, lastFence);
+                    if (end == -1) {
+                        // 后面不再有反引号，不可能再出现行内代码
+                        inlineCodeDone = true;
+                    } else if (end > 0) {
+                        inlineCodeEnd = end;
+                    }
+                }
+                if (i >= inlineCodeEnd) {
+                    words.accept(c);
+                }
+            }
+
+            // 图片：!\[[^]]*\]\([^)]*\)
+            if (!imageDone && i >= imageFrom && c == '!' && i + 1 < length && text.charAt(i + 1) == '[') {
+                int close = text.indexOf(']', i + 2);
+                if (close < 0) {
+                    imageDone = true;
+                } else if (close + 1 < length && text.charAt(close + 1) == '(') {
+                    int end = text.indexOf(')', close + 2);
+                    if (end < 0) {
+                        imageDone = true;
+                    } else {
+                        imageCount++;
+                        imageFrom = end + 1;
+                    }
+                }
+            }
+
+            if (c == '$') {
+                // 块级公式：\$\$[^$]+\$\$
+                if (!mathBlockDone && i >= mathBlockFrom && i + 1 < length && text.charAt(i + 1) == '$') {
+                    int close = text.indexOf('$', i + 2);
+                    if (close < 0) {
+                        mathBlockDone = true;
+                    } else if (close > i + 2 && close + 1 < length && text.charAt(close + 1) == '$') {
+                        mathCount++;
+                        mathBlockFrom = close + 2;
+                    }
+                }
+                // 行内公式：(?<!\$)\$[^\n$]+\$(?!\$)
+                if (i >= mathInlineFrom && (i == 0 || text.charAt(i - 1) != '$')) {
+                    int close = i + 1;
+                    while (close < length && text.charAt(close) != '$' && text.charAt(close) != '\n') {
+                        close++;
+                    }
+                    if (close > i + 1 && close < length && text.charAt(close) == '$'
+                            && (close + 1 >= length || text.charAt(close + 1) != '$')) {
+                        mathCount++;
+                        mathInlineFrom = close + 1;
+                    }
+                }
+            }
+
+            // 行首结构：表格行与列表项
+            if (i == 0 || isLineStart(text, i)) {
+                if (i >= tableFrom && c == '|') {
+                    // ^\|.*\|$：行尾（第一个行终止符之前）的字符也必须是 |
+                    int lineEnd = lineEnd(text, i + 1);
+                    if (lineEnd - 1 > i && text.charAt(lineEnd - 1) == '|') {
+                        tableRowCount++;
+                        tableFrom = lineEnd;
+                    }
+                }
+                if (i >= listFrom) {
+                    int end = matchListItem(text, i);
+                    if (end >= 0) {
+                        listItemCount++;
+                        listFrom = end;
+                    }
+                }
+            }
+        }
+
+        return new MarkdownStats(chineseCount, words.finish(), imageCount, codeBlockLineCount,
+                mathCount, tableRowCount, listItemCount);
     }
 
     /**
-     * 统计给定文本中代码块模式匹配的行数总和。
-     * 根据代码块的正则表达式模式，计算所有匹配内容的总行数。
+     * 在删除代码块后的文本中，查找从位置 start 的反引号开始的行内代码 {@code `[^`]+`} 的结束位置。
      *
-     * @param text 要分析的文本内容
-     * @return 匹配的代码块总行数
+     * @param text      原始文本
+     * @param start     反引号所在位置（不在代码块内）
+     * @param lastFence 最后一个 ``` 的位置
+     * @return 行内代码结束位置（不含）；此处无法匹配时返回 0；之后不再有反引号时返回 -1
      */
-    private int countLinesInPattern(String text) {
-        Matcher matcher = PostUtils.CODE_BLOCK_PATTERN.matcher(text);
-        int totalLines = 0;
-        while (matcher.find()) {
-            totalLines += matcher.group().split("\n").length;
+    private int findInlineCodeEnd(String text, int start, int lastFence) {
+        // 内容的第一个字符：跳过紧随其后的代码块
+        int position = skipCodeBlocks(text, start + 1, lastFence);
+        if (position >= text.length()) {
+            return -1;
+        }
+        if (text.charAt(position) == '`') {
+            return 0;
+        }
+        // 查找下一个不属于代码块的反引号
+        while (true) {
+            int backtick = text.indexOf('`', position);
+            if (backtick < 0) {
+                return -1;
+            }
+            int next = skipCodeBlocks(text, backtick, lastFence);
+            if (next == backtick) {
+                return backtick + 1;
+            }
+            position = next;
         }
-        return totalLines;
     }
-}
 
+    /**
+     * 如果 position 处开始的是（可能连续的）代码块，返回其后第一个不属于代码块的位置，否则原样返回。
+     */
+    private int skipCodeBlocks(String text, int position, int lastFence) {
+        while (position + 3 <= lastFence && text.startsWith(FENCE, position)) {
+            position = text.indexOf(FENCE, position + 3) + 3;
+        }
+        return position;
+    }
+
+    /**
+     * 匹配从行首 start 开始的列表项 {@code (?:[-*+•]|\d+\.)\s+.*$}。
+     * 注意 {@code \s} 包含换行符，因此列表标记后的空白可以跨越多行。
+     *
+     * @return 匹配结束位置（不含），不匹配时返回 -1
+     */
+    private int matchListItem(String text, int start) {
+        int length = text.length();
+        char c = text.charAt(start);
+        int position;
+        if (c == '-' || c == '*' || c == '+' || c == '•') {
+            position = start + 1;
+        } else if (c >= '0' && c <= '9') {
+            position = start + 1;
+            while (position < length && isAsciiDigit(text.charAt(position))) {
+                position++;
+            }
+            if (position >= length || text.charAt(position) != '.') {
+                return -1;
+            }
+            position++;
+        } else {
+            return -1;
+        }
+        if (position >= length || !isRegexSpace(text.charAt(position))) {
+            return -1;
+        }
+        while (position < length && isRegexSpace(text.charAt(position))) {
+            position++;
+        }
+        return lineEnd(text, position);
+    }
+
+    /**
+     * 判断位置 i（i > 0）是否为 MULTILINE 模式下 {@code ^} 可匹配的行首。
+     * 与 {@link java.util.regex.Pattern} 一致：前一个字符为行终止符，且不位于 \r\n 之间。
+     */
+    private static boolean isLineStart(String text, int i) {
+        char previous = text.charAt(i - 1);
+        return isLineTerminator(previous) && !(previous == '\r' && text.charAt(i) == '\n');
+    }
+
+    /**
+     * 返回从 from 开始的第一个行终止符位置，不存在时返回文本长度。
+     */
+    private static int lineEnd(String text, int from) {
+        int position = from;
+        while (position < text.length() && !isLineTerminator(text.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * 正则 {@code .} 不匹配的行终止符。
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    /**
+     * 正则 {@code \s}：[ \t\n\x0B\f\r]。
+     */
+    private static boolean isRegexSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAsciiLetter(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * 正则 {@code \w}：[a-zA-Z_0-9]。
+     */
+    private static boolean isAsciiWord(int c) {
+        return isAsciiLetter(c) || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    private static boolean isNonSpacingMark(int codePoint) {
+        return Character.getType(codePoint) == Character.NON_SPACING_MARK;
+    }
+
+    /**
+     * 逐字符统计 {@code \b[a-zA-Z]+\b} 的匹配次数。
+     * <p>
+     * 等价于统计满足以下条件的极大 ASCII 字母串：前后都不是 "单词字符"。
+     * 与 {@link java.util.regex.Pattern} 的 {@code \b} 一致，单词字符为 {@code \w}，
+     * 以及前面（跳过其他非间距标记后）紧接字母或数字的非间距标记（Mn）。
+     * 由于码点与非间距标记的判断需要前后各一个字符，判断会延迟一个字符进行。
+     */
+    private static final class WordCounter {
+        private int count;
+        private int index;              // 已接收的字符数
+        private char previous;          // 位置 index - 1 的字符
+        private char beforePrevious;    // 位置 index - 2 的字符
+        private boolean previousHasBase; // hasBaseCharacter(index - 2)
+        private boolean inRun;          // 位置 index - 1 是否处于字母串中
+        private boolean runStartsAtBoundary;
+        private boolean runEndPending;  // 字母串在 index - 1 处结束，等待判断右边界
+
+        void accept(char c) {
+            if (index > 0) {
+                // 此时才能确定 index - 1 处的码点
+                int codePoint = Character.isHighSurrogate(previous) && Character.isLowSurrogate(c)
+                        ? Character.toCodePoint(previous, c) : previous;
+                boolean hasBase = Character.isLetterOrDigit(codePoint)
+                        || (isNonSpacingMark(codePoint) && index >= 2 && previousHasBase);
+                if (runEndPending) {
+                    finishRun(codePoint);
+                }
+                previousHasBase = hasBase;
+            }
+
+            if (isAsciiLetter(c)) {
+                if (!inRun) {
+                    inRun = true;
+                    runStartsAtBoundary = index == 0 || !isWordBefore();
+                }
+            } else if (inRun) {
+                inRun = false;
+                runEndPending = true;
+            }
+
+            beforePrevious = previous;
+            previous = c;
+            index++;
+        }
+
+        int finish() {
+            if (runEndPending) {
+                finishRun(previous);
+            } else if (inRun && runStartsAtBoundary) {
+                count++;
+            }
+            return count;
+        }
+
+        /**
+         * 字母串之前（位置 index - 1）是否为单词字符。previousHasBase 此时为 hasBaseCharacter(index - 1)。
+         */
+        private boolean isWordBefore() {
+            int codePoint = Character.isLowSurrogate(previous) && index >= 2 && Character.isHighSurrogate(beforePrevious)
+                    ? Character.toCodePoint(beforePrevious, previous) : previous;
+            return isAsciiWord(codePoint) || (isNonSpacingMark(codePoint) && previousHasBase);
+        }
+
+        /**
+         * 判断字母串之后的第一个码点是否构成右边界。紧跟字母的非间距标记视为单词字符。
+         */
+        private void finishRun(int codePointAfter) {
+            runEndPending = false;
+            if (runStartsAtBoundary && !isAsciiWord(codePointAfter) && !isNonSpacingMark(codePointAfter)) {
+                count++;
+            }
+        }
+    }
+
+    /**
+     * 阅读时间相关的 Markdown 元素统计结果。
+     *
+     * @param chineseCount       中文字符数
+     * @param englishWordCount   代码之外的英文单词数
+     * @param imageCount         图片数
+     * @param codeBlockLineCount 代码块总行数
+     * @param mathCount          数学公式数（块级 + 行内）
+     * @param tableRowCount      表格行数
+     * @param listItemCount      列表项数
+     */
+    record MarkdownStats(int chineseCount, int englishWordCount, int imageCount, int codeBlockLineCount,
+                         int mathCount, int tableRowCount, int listItemCount) {
+    }
+}
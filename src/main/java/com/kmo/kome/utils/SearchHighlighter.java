@@ -0,0 +1,185 @@
+package com.kmo.kome.utils;
+
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 搜索结果高亮工具类
+ * <p>
+ * 根据搜索关键词为标题生成高亮文本，并从正文中截取命中位置附近的片段。
+ * 输出内容已做 HTML 转义，命中部分以 {@code <mark>} 标签包裹。
+ */
+@Component
+public class SearchHighlighter {
+
+    // 片段长度（字符数）
+    private static final int SNIPPET_LENGTH = 160;
+    // 命中位置之前保留的上下文长度
+    private static final int SNIPPET_LEADING = 40;
+
+    private static final Pattern MARKDOWN_SYMBOL_PATTERN = Pattern.compile("[#>*`|~_\\[\\]]+"); // 常见 Markdown 标记符号
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+
+    /**
+     * 将关键词拆分为高亮用的匹配词。
+     * 以空白分隔多个词；长度超过 2 的中文词额外拆出二元组，与 ngram 全文索引的切分方式保持一致，
+     * 使得未整体出现但被全文索引命中的关键词也能高亮。
+     *
+     * @param keyword 搜索关键词
+     * @return 小写形式的匹配词列表，按长度降序排列（优先匹配更长的词）
+     */
+    public List<String> extractTerms(String keyword) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (!StringUtils.hasText(keyword)) {
+            return List.of();
+        }
+        for (String word : WHITESPACE_PATTERN.split(keyword.trim())) {
+            String term = lowerCase(word);
+            if (term.isEmpty()) {
+                continue;
+            }
+            terms.add(term);
+            if (term.length() > 2 && containsIdeograph(term)) {
+                for (int i = 0; i + 2 <= term.length(); i++) {
+                    terms.add(term.substring(i, i + 2));
+                }
+            }
+        }
+        List<String> result = new ArrayList<>(terms);
+        result.sort((a, b) -> b.length() - a.length());
+        return result;
+    }
+
+    /**
+     * 高亮整段文本（用于标题等短文本）。
+     *
+     * @param text  原始文本
+     * @param terms 由 {@link #extractTerms(String)} 生成的匹配词
+     * @return 转义并高亮后的 HTML，原始文本为 null 时返回 null
+     */
+    public String highlight(String text, List<String> terms) {
+        if (text == null) {
+            return null;
+        }
+        return render(text, markMatches(text, terms), 0, text.length());
+    }
+
+    /**
+     * 从正文中截取第一个命中位置附近的片段并高亮。
+     * 正文会先去除常见 Markdown 标记并压缩空白；没有命中时返回开头的片段。
+     *
+     * @param content 正文（Markdown）
+     * @param terms   由 {@link #extractTerms(String)} 生成的匹配词
+     * @return 转义并高亮后的 HTML 片段，正文为空时返回 null
+     */
+    public String snippet(String content, List<String> terms) {
+        if (!StringUtils.hasText(content)) {
+            return null;
+        }
+        String plain = plainText(content);
+        boolean[] marks = markMatches(plain, terms);
+
+        int first = 0;
+        while (first < marks.length && !marks[first]) {
+            first++;
+        }
+        int start = first == marks.length ? 0 : Math.max(0, first - SNIPPET_LEADING);
+        int end = Math.min(plain.length(), start + SNIPPET_LENGTH);
+        // 避免截断代理对
+        if (start > 0 && Character.isLowSurrogate(plain.charAt(start))) {
+            start++;
+        }
+        if (end < plain.length() && Character.isHighSurrogate(plain.charAt(end - 1))) {
+            end--;
+        }
+
+        StringBuilder snippet = new StringBuilder();
+        if (start > 0) {
+            snippet.append("…");
+        }
+        snippet.append(render(plain, marks, start, end));
+        if (end < plain.length()) {
+            snippet.append("…");
+        }
+        return snippet.toString();
+    }
+
+    /**
+     * 去除常见 Markdown 标记并压缩空白，得到用于截取片段的纯文本。
+     * 对结果再次调用不会改变内容，因此可以预先保存结果，之后直接传给 {@link #snippet(String, List)}。
+     *
+     * @param content 正文（Markdown）
+     * @return 纯文本，正文为 null 时返回 null
+     */
+    public String plainText(String content) {
+        if (content == null) {
+            return null;
+        }
+        return WHITESPACE_PATTERN.matcher(MARKDOWN_SYMBOL_PATTERN.matcher(content).replaceAll(" "))
+                .replaceAll(" ")
+                .trim();
+    }
+
+    /**
+     * 标记文本中所有命中匹配词的字符位置（不区分大小写）。
+     */
+    private boolean[] markMatches(String text, List<String> terms) {
+        boolean[] marks = new boolean[text.length()];
+        String lower = lowerCase(text);
+        for (String term : terms) {
+            int from = 0;
+            int index;
+            while ((index = lower.indexOf(term, from)) >= 0) {
+                for (int i = index; i < index + term.length(); i++) {
+                    marks[i] = true;
+                }
+                from = index + term.length();
+            }
+        }
+        return marks;
+    }
+
+    /**
+     * 输出 [start, end) 区间的文本，转义 HTML 并为连续的命中区间包裹 {@code <mark>}。
+     */
+    private String render(String text, boolean[] marks, int start, int end) {
+        StringBuilder html = new StringBuilder(end - start + 16);
+        int i = start;
+        while (i < end) {
+            int j = i;
+            while (j < end && marks[j] == marks[i]) {
+                j++;
+            }
+            String segment = HtmlUtils.htmlEscape(text.substring(i, j));
+            if (marks[i]) {
+                html.append("<mark>").append(segment).append("</mark>");
+            } else {
+                html.append(segment);
+            }
+            i = j;
+        }
+        return html.toString();
+    }
+
+    /**
+     * 逐字符转为小写，保证结果与原文本下标一一对应。
+     */
+    private String lowerCase(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    private boolean containsIdeograph(String text) {
+        return text.codePoints().anyMatch(Character::isIdeographic);
+    }
+}
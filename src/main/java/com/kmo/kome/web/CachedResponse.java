@@ -0,0 +1,29 @@
+package com.kmo.kome.web;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 将公开 GET 接口的响应以最终字节形式缓存。
+ * <p>
+ * 首次请求时把 {@code Result} 序列化为 UTF-8 JSON 并同时生成 gzip 压缩版本，
+ * 之后相同 URL 与内容版本的请求由 {@link CachedResponseInterceptor} 直接写出缓存字节，
+ * 不再执行控制器、构造 {@code Result} 或调用 Jackson。
+ * <p>
+ * 缓存键包含 {@link ConditionalGet} 生成的 ETag，对应服务层写入并发布变更事件后内容版本递增，
+ * 旧条目自然不再命中，因此必须与 {@link ConditionalGet} 同时使用，未生成 ETag 的请求不会被缓存。
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CachedResponse {
+
+    /**
+     * 是否只缓存列表首页：为 true 时携带 cursor、keyword 参数或 pageNum 不为 1 的请求不使用缓存，
+     * 避免任意分页与搜索组合挤占缓存空间。
+     */
+    boolean firstPageOnly() default false;
+}
@@ -0,0 +1,73 @@
+package com.kmo.kome.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kmo.kome.common.Result;
+import com.kmo.kome.common.ResultCode;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * 响应字节缓存的填充端。
+ * <p>
+ * 对 {@link CachedResponseInterceptor} 标记为可缓存且未命中的请求，在写出响应前将成功的 {@link Result}
+ * 序列化为 JSON 字节放入 {@link ResponseByteCache}，并直接以缓存字节写出响应，
+ * 保证命中与未命中时客户端收到的内容与编码方式一致，同时避免重复序列化。
+ * 失败结果（code 不为 200）不缓存，按常规流程写出。
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+public class CachedResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private final ObjectMapper objectMapper;
+    private final ResponseByteCache responseByteCache;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(CachedResponse.class)
+                && MappingJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)) {
+            return body;
+        }
+        HttpServletRequest httpRequest = servletRequest.getServletRequest();
+        HttpServletResponse httpResponse = servletResponse.getServletResponse();
+        String etag = (String) httpRequest.getAttribute(CachedResponseInterceptor.CACHE_ETAG_ATTRIBUTE);
+        if (etag == null || httpResponse.getStatus() != HttpStatus.OK.value()
+                || !(body instanceof Result<?> result) || !ResultCode.SUCCESS.getCode().equals(result.getCode())) {
+            return body;
+        }
+
+        try {
+            ResponseByteCache.CachedBody cached = responseByteCache.put(httpRequest, etag, objectMapper.writeValueAsBytes(body));
+            responseByteCache.write(httpRequest, httpResponse, cached);
+        } catch (JsonProcessingException e) {
+            return body;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // 响应已写出，返回 null 使消息转换器跳过写入
+        return null;
+    }
+}
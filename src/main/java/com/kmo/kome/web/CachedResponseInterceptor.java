@@ -0,0 +1,63 @@
+package com.kmo.kome.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+
+/**
+ * 响应字节缓存拦截器。
+ * <p>
+ * 在 {@link ConditionalGetInterceptor} 之后执行：对标注了 {@link CachedResponse} 的请求，
+ * 以其写入的 ETag 查询 {@link ResponseByteCache}，命中时直接写出缓存字节并中止处理。
+ * 未命中的请求正常执行控制器，由 {@link CachedResponseAdvice} 在写出响应时填充缓存。
+ */
+@Component
+@RequiredArgsConstructor
+public class CachedResponseInterceptor implements HandlerInterceptor {
+
+    /** 请求属性：本次请求可以使用的缓存 ETag，由 {@link CachedResponseAdvice} 读取 */
+    static final String CACHE_ETAG_ATTRIBUTE = CachedResponseInterceptor.class.getName() + ".etag";
+
+    private final ResponseByteCache responseByteCache;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        CachedResponse cachedResponse = handlerMethod.getMethodAnnotation(CachedResponse.class);
+        String etag = response.getHeader(HttpHeaders.ETAG);
+        if (cachedResponse == null || etag == null || !isCacheable(request, cachedResponse)) {
+            return true;
+        }
+
+        ResponseByteCache.CachedBody body = responseByteCache.get(request, etag);
+        if (body == null) {
+            request.setAttribute(CACHE_ETAG_ATTRIBUTE, etag);
+            return true;
+        }
+        responseByteCache.write(request, response, body);
+        return false;
+    }
+
+    private static boolean isCacheable(HttpServletRequest request, CachedResponse cachedResponse) {
+        String method = request.getMethod();
+        if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)) {
+            return false;
+        }
+        if (!cachedResponse.firstPageOnly()) {
+            return true;
+        }
+        String pageNum = request.getParameter("pageNum");
+        return request.getParameter("cursor") == null
+                && request.getParameter("keyword") == null
+                && (pageNum == null || pageNum.equals("1"));
+    }
+}
@@ -0,0 +1,44 @@
+package com.kmo.kome.web;
+
+import com.kmo.kome.cache.ContentVersion;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 为公开的 GET 接口启用基于内容版本的条件请求。
+ * <p>
+ * 标注的接口在响应中携带由 {@link ContentVersion} 生成的 ETag；
+ * 请求头 If-None-Match 与当前 ETag 一致时，由 {@link ConditionalGetInterceptor} 直接返回 304，
+ * 不执行控制器方法，也不访问数据库。
+ * <p>
+ * ETag 只由内容版本号决定，与 {@code Result.timestamp} 等每次响应都会变化的包装字段无关，
+ * 因此只能用于响应数据完全由所列内容分类与请求 URL 决定的接口。
+ * 唯一的例外是文章阅读量：它不计入任何分类，包含阅读量的接口需设置 {@link #weak()}，
+ * 以弱 ETag 表明同一 ETag 下阅读量可能不同，条件请求命中时客户端沿用缓存中的阅读量。
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ConditionalGet {
+
+    /**
+     * 响应数据所依赖的内容分类，任一分类变更都会使 ETag 失效。
+     */
+    ContentVersion.Domain[] value();
+
+    /**
+     * 是否使用弱 ETag（{@code W/"..."}）。响应中包含阅读量等不计入内容版本的实时数据时必须为 true，
+     * 此时同一 ETag 下响应字节可能不同，不满足强 ETag 的要求。
+     */
+    boolean weak() default false;
+
+    /**
+     * 条件请求命中（304）时是否按路径变量 {@code slug} 累加一次文章阅读量。
+     * 用于文章详情：304 不执行控制器方法，需要由拦截器补记阅读量，保持每次访问都计数。
+     */
+    boolean countPostView() default false;
+}
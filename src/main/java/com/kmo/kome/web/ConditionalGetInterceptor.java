@@ -0,0 +1,89 @@
+package com.kmo.kome.web;
+
+import com.kmo.kome.cache.ContentVersion;
+import com.kmo.kome.service.PostService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * 条件请求拦截器。
+ * <p>
+ * 对标注了 {@link ConditionalGet} 的 GET/HEAD 请求，在进入控制器之前根据内容版本计算 ETag：
+ * <ul>
+ *     <li>If-None-Match 命中时返回 304 并中止处理，控制器、服务与 Mapper 均不会被调用；
+ *     设置了 {@link ConditionalGet#countPostView()} 的文章详情仍通过内存索引解析文章 ID 并累加阅读量；</li>
+ *     <li>未命中时写入 ETag 响应头并继续处理。</li>
+ * </ul>
+ * ETag 在查询数据之前计算，并发写入时响应内容只可能比 ETag 更新，
+ * 客户端下一次携带该 ETag 请求时会因版本号已变化而重新获取，不会长期持有旧数据。
+ * 设置了 {@link ConditionalGet#weak()} 的接口使用弱 ETag（{@code W/"..."}），If-None-Match 按弱比较匹配。
+ * <p>
+ * 同时设置 {@code Cache-Control: no-cache}，允许浏览器缓存响应但每次使用前都必须重新验证，
+ * 并阻止 Spring Security 默认写入的 no-store。
+ * <p>
+ * 同时标注了 {@link CachedResponse} 的接口可能返回 gzip 表示（ETag 带 {@code -gz} 后缀，见 {@link ResponseByteCache}），
+ * 这类请求无论命中与否都带上 {@code Vary: Accept-Encoding}；客户端接受 gzip 且携带 gzip 表示的 ETag 时同样返回 304。
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private final ContentVersion contentVersion;
+    private final PostService postService;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        ConditionalGet conditionalGet = handlerMethod.getMethodAnnotation(ConditionalGet.class);
+        if (conditionalGet == null) {
+            return true;
+        }
+        String method = request.getMethod();
+        if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)) {
+            return true;
+        }
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        String etag = contentVersion.etag(conditionalGet.value());
+        if (conditionalGet.weak()) {
+            etag = "W/" + etag;
+        }
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        if (handlerMethod.hasMethodAnnotation(CachedResponse.class)) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            String gzipEtag = ResponseByteCache.gzipEtag(etag);
+            String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+            if (ifNoneMatch != null && ifNoneMatch.contains(gzipEtag)
+                    && ResponseByteCache.acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+                // 命中 gzip 表示：304 响应携带 gzip 表示的 ETag
+                return proceed(webRequest.checkNotModified(gzipEtag), conditionalGet, request);
+            }
+        }
+        // 命中时 checkNotModified 会设置 304 状态码与 ETag 头
+        return proceed(webRequest.checkNotModified(etag), conditionalGet, request);
+    }
+
+    /**
+     * 命中时补记文章阅读量并中止处理，未命中时继续处理。
+     */
+    private boolean proceed(boolean notModified, ConditionalGet conditionalGet, HttpServletRequest request) {
+        if (notModified && conditionalGet.countPostView()
+                && request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE) instanceof Map<?, ?> variables
+                && variables.get("slug") instanceof String slug) {
+            postService.recordPostViewBySlug(slug);
+        }
+        return !notModified;
+    }
+}
@@ -0,0 +1,164 @@
+package com.kmo.kome.web;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 公开接口响应字节缓存。
+ * <p>
+ * 以 (ETag, 请求路径与查询参数) 为 key 缓存序列化后的 JSON 字节及其 gzip 压缩版本，
+ * 按字节数计算权重，总权重超过 {@code kome.cache.response.max-weight} 时按 W-TinyLFU 策略淘汰。
+ * 内容变更后 ETag 随之变化，旧条目不再被访问，最终被淘汰。
+ * ETag 不包含阅读量等频繁变化的字段，条目在写入 {@code kome.cache.response.ttl} 后过期，使这类字段定期刷新。
+ * <p>
+ * gzip 与未压缩的响应是同一资源的两种表示，按 RFC 9110 需要不同的强校验器：
+ * 写出 gzip 字节时 ETag 追加 {@code -gz} 后缀（见 {@link #gzipEtag(String)}），{@code Vary: Accept-Encoding}
+ * 由 {@link ConditionalGetInterceptor} 对所有标注 {@link CachedResponse} 的请求统一设置。
+ * 命中、未命中、淘汰次数通过 /actuator/metrics/cache.* 指标（cache=responseBytes）暴露。
+ */
+@Component
+public class ResponseByteCache {
+
+    // 小于该长度的响应不压缩，gzip 头尾开销会抵消收益
+    private static final int MIN_COMPRESS_LENGTH = 256;
+
+    private final Cache<CacheKey, CachedBody> cache;
+
+    public ResponseByteCache(MeterRegistry meterRegistry,
+                             @Value("${kome.cache.response.max-weight}") long maxWeight,
+                             @Value("${kome.cache.response.ttl:60000}") long ttlMillis) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((CacheKey key, CachedBody body) -> body.weight())
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "responseBytes");
+    }
+
+    /**
+     * 查询当前请求对应的缓存响应。
+     *
+     * @param request 当前请求
+     * @param etag    当前内容版本的 ETag
+     * @return 缓存的响应，未命中时返回 null
+     */
+    public CachedBody get(HttpServletRequest request, String etag) {
+        return cache.getIfPresent(keyOf(request, etag));
+    }
+
+    /**
+     * 缓存当前请求的 JSON 响应，同时生成 gzip 压缩版本。
+     *
+     * @param request 当前请求
+     * @param etag    生成该响应时的内容版本 ETag
+     * @param json    UTF-8 编码的完整 JSON 响应体
+     * @return 缓存条目
+     */
+    public CachedBody put(HttpServletRequest request, String etag, byte[] json) {
+        CachedBody body = new CachedBody(json, json.length >= MIN_COMPRESS_LENGTH ? gzip(json) : null);
+        cache.put(keyOf(request, etag), body);
+        return body;
+    }
+
+    /**
+     * 将缓存的字节直接写入响应输出流。
+     * 客户端接受 gzip 且存在压缩版本时写出压缩字节，并将 ETag 替换为 gzip 表示的 ETag；HEAD 请求只写响应头。
+     *
+     * @param request  当前请求
+     * @param response 当前响应
+     * @param body     缓存的响应
+     * @throws IOException 写出失败时抛出
+     */
+    public void write(HttpServletRequest request, HttpServletResponse response, CachedBody body) throws IOException {
+        byte[] bytes = body.json();
+        if (body.gzip() != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            bytes = body.gzip();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            String etag = response.getHeader(HttpHeaders.ETAG);
+            if (etag != null) {
+                response.setHeader(HttpHeaders.ETAG, gzipEtag(etag));
+            }
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(bytes.length);
+        if (!HttpMethod.HEAD.matches(request.getMethod())) {
+            response.getOutputStream().write(bytes);
+        }
+        response.flushBuffer();
+    }
+
+    /**
+     * 生成 gzip 表示对应的 ETag：在引号内追加 {@code -gz} 后缀，例如 {@code "abc.1"} → {@code "abc.1-gz"}，弱 ETag 保留 {@code W/} 前缀。
+     *
+     * @param etag 未压缩表示的 ETag（带双引号）
+     * @return gzip 表示的 ETag
+     */
+    static String gzipEtag(String etag) {
+        return etag.substring(0, etag.length() - 1) + "-gz\"";
+    }
+
+    private static CacheKey keyOf(HttpServletRequest request, String etag) {
+        String query = request.getQueryString();
+        return new CacheKey(etag, query == null ? request.getRequestURI() : request.getRequestURI() + '?' + query);
+    }
+
+    /**
+     * 判断 Accept-Encoding 是否接受 gzip（忽略 q=0 的显式拒绝）。
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (!StringUtils.hasText(acceptEncoding)) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase("gzip") || name.equals("*")) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(data.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private record CacheKey(String etag, String uri) {
+    }
+
+    /**
+     * 缓存的响应字节。
+     *
+     * @param json UTF-8 编码的 JSON 响应体
+     * @param gzip gzip 压缩后的响应体，响应过小时为 null
+     */
+    public record CachedBody(byte[] json, byte[] gzip) {
+
+        private int weight() {
+            return json.length + (gzip == null ? 0 : gzip.length) + 128;
+        }
+    }
+}
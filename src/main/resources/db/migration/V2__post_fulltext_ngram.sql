@@ -0,0 +1,11 @@
+-- Flyway Migration V2: 文章全文检索索引
+-- 原 ft_idx_title_summary 使用默认分词器，无法切分中文且不覆盖正文。
+-- 改为覆盖 标题 + 摘要 + 正文 的 ngram 全文索引（词元长度由 ngram_token_size 决定，默认 2）。
+-- InnoDB 默认停用词表包含 "a"、"i" 等英文单词，ngram 解析器会丢弃所有包含停用词的词元，
+-- 导致 "data"、"java" 这类英文关键词无法命中，因此建索引前在当前会话关闭停用词（停用词在建索引时生效）。
+
+SET SESSION innodb_ft_enable_stopword = OFF;
+
+ALTER TABLE `post`
+  DROP INDEX `ft_idx_title_summary`,
+  ADD FULLTEXT KEY `ft_idx_post_search` (`title`, `summary`, `content`) WITH PARSER ngram;
@@ -0,0 +1,8 @@
+-- Flyway Migration V3: 文章预渲染内容
+-- 文章保存时将 Markdown 渲染为 HTML，并生成目录与纯文本摘要，读取时直接返回，不再由浏览器逐次解析。
+-- 已有文章的这三列为 NULL，应用启动后由后台任务补齐。
+
+ALTER TABLE `post`
+  ADD COLUMN `content_html` longtext DEFAULT NULL COMMENT '渲染后的HTML内容' AFTER `content`,
+  ADD COLUMN `toc` json DEFAULT NULL COMMENT '目录(标题列表)' AFTER `content_html`,
+  ADD COLUMN `excerpt` varchar(500) DEFAULT NULL COMMENT '纯文本摘要' AFTER `toc`;
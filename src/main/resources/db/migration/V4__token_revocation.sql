@@ -0,0 +1,17 @@
+-- Flyway Migration V4: JWT 吊销
+-- revoked_token 记录主动注销的单个 Token（仅保存 SHA-256 摘要），过期后由后台任务清理；
+-- user.token_valid_after 为用户级吊销时间点，签发时间早于该时间的 Token 全部失效（修改密码时更新）。
+
+CREATE TABLE IF NOT EXISTS `revoked_token` (
+  `id` bigint NOT NULL AUTO_INCREMENT COMMENT '主键ID',
+  `token_hash` char(43) NOT NULL COMMENT 'Token 的 SHA-256 摘要 (Base64, 无填充)',
+  `user_id` bigint NOT NULL COMMENT 'Token 所属用户ID',
+  `expires_at` datetime NOT NULL COMMENT 'Token 过期时间，过期后记录可删除',
+  `create_time` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '吊销时间',
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `uk_token_hash` (`token_hash`),
+  KEY `idx_expires_at` (`expires_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='已吊销的 JWT';
+
+ALTER TABLE `user`
+  ADD COLUMN `token_valid_after` datetime DEFAULT NULL COMMENT '早于该时间签发的 Token 均失效' AFTER `skills`;
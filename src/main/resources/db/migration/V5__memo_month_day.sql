@@ -0,0 +1,8 @@
+-- Flyway Migration V5: "往年今日" Memo 查询索引
+-- 原查询对 create_time 套用 MONTH() / DAY() 函数，无法使用索引，每次都全表扫描。
+-- 新增由 create_time 生成的 month_day 列（MMDD，例如 1017 表示 10 月 17 日），
+-- 并建立 (status, month_day, create_time) 联合索引，查询改为按 month_day 等值匹配。
+
+ALTER TABLE `memo`
+  ADD COLUMN `month_day` smallint GENERATED ALWAYS AS (MONTH(`create_time`) * 100 + DAYOFMONTH(`create_time`)) STORED COMMENT '创建日期的月日 (MMDD)' AFTER `create_time`,
+  ADD INDEX `idx_status_month_day` (`status`, `month_day`, `create_time`);
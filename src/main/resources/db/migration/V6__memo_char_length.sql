@@ -0,0 +1,8 @@
+-- Flyway Migration V6: Memo 字数
+-- 原统计接口每次对全部已发布 Memo 执行 SUM(CHAR_LENGTH(content))，需要读取每一条 TEXT 内容。
+-- 新增 char_length 列，由应用在创建、更新 Memo 时写入（与 CHAR_LENGTH 一致，按字符计数），并回填已有数据。
+
+ALTER TABLE `memo`
+  ADD COLUMN `char_length` int NOT NULL DEFAULT 0 COMMENT '内容字数 (按字符计数)' AFTER `content`;
+
+UPDATE `memo` SET `char_length` = CHAR_LENGTH(`content`);
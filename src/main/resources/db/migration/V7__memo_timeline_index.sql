@@ -0,0 +1,7 @@
+-- Flyway Migration V7: Memo 时间线索引
+-- Memo 列表按 is_pinned DESC, create_time DESC, id DESC 排序，原表除主键外没有任何索引，每次分页都要全表扫描并排序。
+-- 新增 (status, is_pinned, create_time, id) 联合索引，公开列表按 status 过滤后可直接按索引顺序读取，
+-- 游标分页的 Seek 条件也能直接在索引上定位起点。
+
+ALTER TABLE `memo`
+  ADD INDEX `idx_status_pinned_createtime` (`status`, `is_pinned`, `create_time`, `id`);
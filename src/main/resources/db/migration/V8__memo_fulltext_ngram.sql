@@ -0,0 +1,10 @@
+-- Flyway Migration V8: Memo 全文检索索引
+-- 原关键词筛选使用 content LIKE '%keyword%'，无法使用索引，每次都要扫描全部 Memo 内容。
+-- 新增 content 的 ngram 全文索引（词元长度由 ngram_token_size 决定，默认 2），
+-- 关键词不短于词元长度时改用 MATCH ... AGAINST 检索并按相关度排序。
+-- 与 V2 相同，建索引前在当前会话关闭停用词，避免含 "a"、"i" 等停用词的英文词元被丢弃。
+
+SET SESSION innodb_ft_enable_stopword = OFF;
+
+ALTER TABLE `memo`
+  ADD FULLTEXT KEY `ft_idx_memo_content` (`content`) WITH PARSER ngram;
@@ -0,0 +1,7 @@
+-- Flyway Migration V9: 文章列表索引
+-- 公开文章列表按 is_pinned DESC, create_time DESC, id DESC 排序，原有的 idx_status_createtime (status, create_time)
+-- 不包含 is_pinned，排序仍需对全部匹配行做 filesort，游标分页的深页也无法直接定位。
+-- 新增 (status, is_pinned, create_time, id) 联合索引，与 Memo 的 V7 一致。
+
+ALTER TABLE `post`
+  ADD INDEX `idx_status_pinned_createtime` (`status`, `is_pinned`, `create_time`, `id`);
@@ -0,0 +1,117 @@
+package com.kmo.kome.utils;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JWT 解析缓存的正确性校验，以及认证过滤器热路径（解析 userId）缓存前后的耗时对比。
+ */
+public class JwtUtilsTest {
+
+    private static final String SECRET = "kome-test-secret-kome-test-secret-0123456789";
+
+    @Test
+    public void cachedTokenResolvesSameUser() {
+        JwtUtils jwtUtils = newJwtUtils(60_000);
+        String token = jwtUtils.generateToken(42L);
+        assertEquals(42L, jwtUtils.getUserIdFromToken(token));
+        assertEquals(42L, jwtUtils.getUserIdFromToken(token));
+        assertTrue(jwtUtils.validateToken(token));
+    }
+
+    @Test
+    public void tamperedTokenIsRejected() {
+        JwtUtils jwtUtils = newJwtUtils(60_000);
+        String token = jwtUtils.generateToken(42L);
+        // 先放入缓存，确认篡改后的 Token 不会命中
+        jwtUtils.getUserIdFromToken(token);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+        assertThrows(JwtException.class, () -> jwtUtils.getUserIdFromToken(tampered));
+        assertFalse(jwtUtils.validateToken(tampered));
+    }
+
+    @Test
+    public void expiredTokenIsRejected() {
+        JwtUtils jwtUtils = newJwtUtils(-1_000);
+        String token = jwtUtils.generateToken(42L);
+        assertThrows(ExpiredJwtException.class, () -> jwtUtils.getUserIdFromToken(token));
+        assertThrows(ExpiredJwtException.class, () -> jwtUtils.getUserIdFromToken(token));
+    }
+
+    @Test
+    public void cachedTokenIsReverifiedAfterExpiry() throws InterruptedException {
+        JwtUtils jwtUtils = newJwtUtils(1_500);
+        String token = jwtUtils.generateToken(42L);
+        // 先放入缓存，过期后应重新交由解析器校验，而不是继续返回缓存结果
+        long expiresAt = jwtUtils.verifyToken(token).expiresAt();
+        assertEquals(42L, jwtUtils.getUserIdFromToken(token));
+        Thread.sleep(Math.max(expiresAt - System.currentTimeMillis(), 0) + 50);
+        assertThrows(ExpiredJwtException.class, () -> jwtUtils.getUserIdFromToken(token));
+        assertFalse(jwtUtils.validateToken(token));
+    }
+
+    /**
+     * 仅输出耗时，不做断言，默认构建中跳过（见 pom.xml 中的 test.excludedGroups）。
+     */
+    @Test
+    @Tag("benchmark")
+    public void compareThroughput() {
+        JwtUtils jwtUtils = newJwtUtils(60_000);
+        String token = jwtUtils.generateToken(42L);
+
+        // 预热
+        for (int i = 0; i < 20_000; i++) {
+            legacyGetUserId(token);
+            jwtUtils.getUserIdFromToken(token);
+        }
+        int iterations = 100_000;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            legacyGetUserId(token);
+        }
+        long legacyNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            jwtUtils.getUserIdFromToken(token);
+        }
+        long cachedNanos = System.nanoTime() - start;
+
+        System.out.println("=========================================");
+        System.out.printf("Parse per request: %.2f us/op%n", legacyNanos / 1e3 / iterations);
+        System.out.printf("Cached:            %.2f us/op%n", cachedNanos / 1e3 / iterations);
+        System.out.println("=========================================");
+    }
+
+    private static JwtUtils newJwtUtils(long expiration) {
+        JwtUtils jwtUtils = new JwtUtils(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtUtils, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtils, "expiration", expiration);
+        ReflectionTestUtils.setField(jwtUtils, "cacheMaxSize", 1024L);
+        jwtUtils.init();
+        return jwtUtils;
+    }
+
+    // 原实现：每次调用重新生成密钥并构建解析器
+    private static Long legacyGetUserId(String token) {
+        String subject = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload()
+                .getSubject();
+        return Long.parseLong(subject);
+    }
+}
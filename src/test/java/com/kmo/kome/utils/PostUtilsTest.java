@@ -0,0 +1,152 @@
+package com.kmo.kome.utils;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 单次扫描的阅读时间统计与原正则实现的一致性校验及耗时对比。
+ */
+public class PostUtilsTest {
+
+    // 原正则实现
+    private static final Pattern CHINESE_PATTERN = Pattern.compile("[\\u4e00-\\u9fff]");
+    private static final Pattern ENGLISH_WORD_PATTERN = Pattern.compile("\\b[a-zA-Z]+\\b");
+    private static final Pattern IMAGE_PATTERN = Pattern.compile("!\\[[^]]*\\]\\([^)]*\\)");
+    private static final Pattern CODE_BLOCK_PATTERN = Pattern.compile("```[\\s\\S]*?```");
+    private static final Pattern MATH_BLOCK_PATTERN = Pattern.compile("\\$\\$[^$]+\\$\\$");
+    private static final Pattern MATH_INLINE_PATTERN = Pattern.compile("(?<!\\$)\\$[^\n$]+\\$(?!\\$)");
+    private static final Pattern TABLE_ROW_PATTERN = Pattern.compile("^\\|.*\\|$", Pattern.MULTILINE);
+    private static final Pattern LIST_ITEM_PATTERN = Pattern.compile("^(?:[-*+•]|\\d+\\.)\\s+.*$", Pattern.MULTILINE);
+
+    // 覆盖各类边界情况的字符表：反引号、公式、表格、列表、图片、各种行终止符、组合字符、代理对
+    private static final String[] ALPHABET = {
+            "`", "```", "$", "$$", "|", "-", "*", "+", "•", "1", "23", ".", "a", "Zb", "_", "9",
+            "\n", "\r", "\r\n", "\u0085", "\u2028", "\u2029", " ", "\t", "\u000B", "\f",
+            "!", "![", "]", "(", ")", "中", "文", "\u0301", "\u20d7", "e\u0301", "𝐀", "𝅧", "\uD800"
+    };
+
+    private final PostUtils postUtils = new PostUtils();
+
+    @Test
+    public void scanMatchesRegexImplementation() {
+        Random random = new Random(20261017L);
+        for (int round = 0; round < 200_000; round++) {
+            String text = randomText(random, 1 + random.nextInt(40));
+            assertEquals(legacyScan(text), postUtils.scan(text), () -> "Mismatch for: " + escape(text));
+        }
+    }
+
+    @Test
+    public void scanSampleDocument() {
+        String text = """
+                # 标题
+
+                Hello world, 这是一段 `inline code` 文本。
+                ```java
+                int a = 1;
+                ```
+                ![cover](https://example.com/a.png)
+                $$E = mc^2$$ and $x$
+                | a | b |
+                |---|---|
+                - item one
+                1. item two
+                """;
+        PostUtils.MarkdownStats stats = postUtils.scan(text);
+        assertEquals(legacyScan(text), stats);
+        assertEquals(3, stats.codeBlockLineCount());
+        assertEquals(2, stats.mathCount());
+        assertEquals(2, stats.tableRowCount());
+        assertEquals(2, stats.listItemCount());
+        assertEquals(1, stats.imageCount());
+    }
+
+    /**
+     * 仅输出耗时，不做断言，默认构建中跳过（见 pom.xml 中的 test.excludedGroups）。
+     */
+    @Test
+    @Tag("benchmark")
+    public void compareThroughput() {
+        StringBuilder builder = new StringBuilder();
+        Random random = new Random(42L);
+        while (builder.length() < 200_000) {
+            builder.append("## 小节标题 Section ").append(random.nextInt(100)).append('\n')
+                    .append("这是一段包含 English words 与 `inline code` 的正文，用于估算阅读时间。\n")
+                    .append("```java\nSystem.out.println(\"hello\");\nreturn;\n```\n")
+                    .append("![image](https://example.com/").append(random.nextInt(1000)).append(".png)\n")
+                    .append("公式 $a^2 + b^2 = c^2$ 以及 $$\\sum_{i=1}^n i$$\n")
+                    .append("| col | col |\n|-----|-----|\n")
+                    .append("- list item\n1. ordered item\n\n");
+        }
+        String text = builder.toString();
+
+        // 预热
+        for (int i = 0; i < 20; i++) {
+            legacyScan(text);
+            postUtils.scan(text);
+        }
+        int iterations = 50;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            legacyScan(text);
+        }
+        long legacyNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            postUtils.scan(text);
+        }
+        long scanNanos = System.nanoTime() - start;
+
+        System.out.println("=========================================");
+        System.out.printf("Document length: %d chars%n", text.length());
+        System.out.printf("Regex:       %.3f ms/op%n", legacyNanos / 1e6 / iterations);
+        System.out.printf("Single-pass: %.3f ms/op%n", scanNanos / 1e6 / iterations);
+        System.out.println("=========================================");
+    }
+
+    private static PostUtils.MarkdownStats legacyScan(String text) {
+        String textWithoutCode = text
+                .replaceAll("```[\\s\\S]*?```", "")
+                .replaceAll("`[^`]+`", "");
+        int codeBlockLineCount = 0;
+        Matcher matcher = CODE_BLOCK_PATTERN.matcher(text);
+        while (matcher.find()) {
+            codeBlockLineCount += matcher.group().split("\n").length;
+        }
+        return new PostUtils.MarkdownStats(
+                count(text, CHINESE_PATTERN),
+                count(textWithoutCode, ENGLISH_WORD_PATTERN),
+                count(text, IMAGE_PATTERN),
+                codeBlockLineCount,
+                count(text, MATH_BLOCK_PATTERN) + count(text, MATH_INLINE_PATTERN),
+                count(text, TABLE_ROW_PATTERN),
+                count(text, LIST_ITEM_PATTERN));
+    }
+
+    private static int count(String text, Pattern pattern) {
+        Matcher matcher = pattern.matcher(text);
+        int count = 0;
+        while (matcher.find()) count++;
+        return count;
+    }
+
+    private static String randomText(Random random, int pieces) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < pieces; i++) {
+            builder.append(ALPHABET[random.nextInt(ALPHABET.length)]);
+        }
+        return builder.toString();
+    }
+
+    private static String escape(String text) {
+        StringBuilder builder = new StringBuilder();
+        text.chars().forEach(c -> builder.append(c < 0x20 || c > 0x7e ? String.format("\\u%04x", c) : String.valueOf((char) c)));
+        return builder.toString();
+    }
+}